@@ -0,0 +1,3 @@
+-- 채팅 이력 keyset 페이징용 인덱스
+-- WHERE challenge_id = ? AND message_id < ? ORDER BY message_id DESC LIMIT ?
+CREATE INDEX `idx_chat_message_challenge_message` ON `chat_message` (`challenge_id`, `message_id`);
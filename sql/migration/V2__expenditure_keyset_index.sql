@@ -0,0 +1,3 @@
+-- 소비내역 keyset 페이징/스트리밍용 인덱스
+-- WHERE user_id = ? [AND expenditure_date 범위] ORDER BY expenditure_date DESC, expenditure_id DESC LIMIT ?
+CREATE INDEX `idx_expenditure_user_date_id` ON `expenditure` (`user_id`, `expenditure_date`, `expenditure_id`);
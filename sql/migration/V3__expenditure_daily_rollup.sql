@@ -0,0 +1,16 @@
+-- 사용자/일자/카테고리별 지출 합계 (소비내역 쓰기 경로에서 증감 반영)
+CREATE TABLE `expenditure_daily_rollup` (
+    `user_id` BIGINT NOT NULL,
+    `day` DATE NOT NULL,
+    `category_id` BIGINT NOT NULL,
+    `total` BIGINT NOT NULL DEFAULT 0,
+    `count` INT NOT NULL DEFAULT 0,
+    PRIMARY KEY (`user_id`, `day`, `category_id`)
+);
+
+-- 기존 소비내역으로 초기 적재
+INSERT INTO `expenditure_daily_rollup` (`user_id`, `day`, `category_id`, `total`, `count`)
+SELECT `user_id`, DATE(`expenditure_date`), `category_id`, SUM(`amount`), COUNT(*)
+FROM `expenditure`
+WHERE `deleted_at` IS NULL
+GROUP BY `user_id`, DATE(`expenditure_date`), `category_id`;
@@ -0,0 +1,13 @@
+-- 소비내역: 사용자 + 미삭제 + 기간 조회 (목록/keyset 페이징, 중복 거래 확인, 롤업 검증)
+-- deleted_at IS NULL 이 등치 조건이 되어 expenditure_date, expenditure_id 순서를 인덱스로 제공하므로 V2 인덱스를 대체
+CREATE INDEX `idx_expenditure_user_deleted_date` ON `expenditure` (`user_id`, `deleted_at`, `expenditure_date`, `expenditure_id`);
+DROP INDEX `idx_expenditure_user_date_id` ON `expenditure`;
+
+-- Codef 거래 ID 중복 확인
+CREATE INDEX `idx_expenditure_codef_transaction` ON `expenditure` (`codef_transaction_id`);
+
+-- 챌린지 참여: 진행 중 전체 조회(dailyCheck), 사용자별 진행 중 여부
+CREATE INDEX `idx_user_challenge_status_user` ON `user_challenge` (`status`, `user_id`);
+
+-- 챌린지 참여: 사용자 최근 참여 조회 (ORDER BY start_date DESC LIMIT 1)
+CREATE INDEX `idx_user_challenge_user_start` ON `user_challenge` (`user_id`, `start_date`);
@@ -0,0 +1,19 @@
+-- 사용자별 소비내역 변경 버전 (변경 동기화 토큰)
+-- 쓰기 트랜잭션마다 1 증가, 증가 시 잡은 행 잠금이 커밋까지 유지되어 버전 순서 = 커밋 순서
+CREATE TABLE `expenditure_change_version` (
+    `user_id` BIGINT NOT NULL,
+    `version` BIGINT NOT NULL DEFAULT 0,
+    `reset_version` BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (`user_id`)
+);
+
+-- 행을 마지막으로 바꾼 버전 (추가/수정/소프트 삭제)
+ALTER TABLE `expenditure` ADD COLUMN `change_version` BIGINT NOT NULL DEFAULT 0;
+CREATE INDEX `idx_expenditure_user_change` ON `expenditure` (`user_id`, `change_version`);
+
+-- 기존 내역은 버전 1에서 시작
+UPDATE `expenditure` SET `change_version` = 1;
+
+INSERT INTO `expenditure_change_version` (`user_id`, `version`)
+SELECT DISTINCT `user_id`, 1
+FROM `expenditure`;
@@ -0,0 +1,20 @@
+-- 보존 기간 정리 (채팅, 소프트 삭제된 소비내역, 지난 Codef 토큰)
+-- 정책별 진행 위치: 청크마다 갱신하여 중단(시간 창 종료, 재시작)된 지점부터 이어서 처리
+CREATE TABLE `retention_progress` (
+    `policy` VARCHAR(50) NOT NULL,
+    `last_key` BIGINT NOT NULL DEFAULT 0,
+    `processed_total` BIGINT NOT NULL DEFAULT 0,
+    `last_run_at` TIMESTAMP NULL,
+    `last_completed_at` TIMESTAMP NULL,
+    PRIMARY KEY (`policy`)
+);
+
+-- 보관 테이블 (외래 키 없이 원본 컬럼 + 보관 시각)
+CREATE TABLE `chat_message_archive` LIKE `chat_message`;
+ALTER TABLE `chat_message_archive` ADD COLUMN `archived_at` TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP;
+
+CREATE TABLE `expenditure_archive` LIKE `expenditure`;
+ALTER TABLE `expenditure_archive` ADD COLUMN `archived_at` TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP;
+
+-- 소프트 삭제 행을 삭제 시각 순으로 범위 조회 (사용자 구분 없이)
+CREATE INDEX `idx_expenditure_deleted_at` ON `expenditure` (`deleted_at`);
@@ -0,0 +1,7 @@
+-- Codef 거래 지문 (계좌 + 거래 원본 필드의 SHA-256), 같은 거래는 한 번만 저장
+-- 직접 입력한 소비내역은 NULL (UNIQUE 인덱스에서 NULL은 중복 허용)
+-- 기존 행은 원본 필드를 복원할 수 없어 NULL로 두고 codef_transaction_id로 비교
+ALTER TABLE `expenditure` ADD COLUMN `transaction_fingerprint` CHAR(64) NULL;
+CREATE UNIQUE INDEX `idx_expenditure_transaction_fingerprint` ON `expenditure` (`transaction_fingerprint`);
+
+ALTER TABLE `expenditure_archive` ADD COLUMN `transaction_fingerprint` CHAR(64) NULL;
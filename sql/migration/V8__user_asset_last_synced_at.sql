@@ -0,0 +1,3 @@
+-- 계좌별 거래내역 동기화 기준 시각, 다음 동기화는 이 시각 이후(겹침 구간 포함)만 Codef에 조회
+-- 기존 계좌는 NULL로 두고 첫 동기화에서 어제부터 조회 (기존 동작과 같음)
+ALTER TABLE `user_asset` ADD COLUMN `last_synced_at` TIMESTAMP NULL;
@@ -46,6 +46,8 @@ CREATE TABLE `user_challenge` (
     `end_date` TIMESTAMP NOT NULL,
     `point` BIGINT NOT NULL,
     PRIMARY KEY (`user_challenge_id`),
+    INDEX `idx_user_challenge_status_user` (`status`, `user_id`),
+    INDEX `idx_user_challenge_user_start` (`user_id`, `start_date`),
     FOREIGN KEY (`user_id`) REFERENCES `user`(`user_id`) ON DELETE CASCADE,
     FOREIGN KEY (`challenge_id`) REFERENCES `challenge`(`challenge_id`) ON DELETE CASCADE
 );
@@ -59,6 +61,7 @@ CREATE TABLE `chat_message` (
     `sent_at` TIMESTAMP NOT NULL,
     `message_type` VARCHAR(20) DEFAULT 'MESSAGE' NOT NULL,
     PRIMARY KEY (`message_id`),
+    INDEX `idx_chat_message_challenge_message` (`challenge_id`, `message_id`),
     FOREIGN KEY (`user_id`) REFERENCES `user`(`user_id`) ON DELETE CASCADE,
     FOREIGN KEY (`challenge_id`) REFERENCES `challenge`(`challenge_id`) ON DELETE CASCADE
 );
@@ -74,11 +77,57 @@ CREATE TABLE `expenditure` (
     `expenditure_date` TIMESTAMP NOT NULL,
     `created_at` TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
     `updated_at` TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    `user_modified` BOOLEAN NOT NULL DEFAULT FALSE,
+    `codef_transaction_id` VARCHAR(255),
+    `deleted_at` TIMESTAMP NULL,
+    `change_version` BIGINT NOT NULL DEFAULT 0,
+    `transaction_fingerprint` CHAR(64) NULL,
     PRIMARY KEY (`expenditure_id`),
+    INDEX `idx_expenditure_user_deleted_date` (`user_id`, `deleted_at`, `expenditure_date`, `expenditure_id`),
+    INDEX `idx_expenditure_codef_transaction` (`codef_transaction_id`),
+    INDEX `idx_expenditure_user_change` (`user_id`, `change_version`),
+    INDEX `idx_expenditure_deleted_at` (`deleted_at`),
+    UNIQUE INDEX `idx_expenditure_transaction_fingerprint` (`transaction_fingerprint`),
     FOREIGN KEY (`user_id`) REFERENCES `user`(`user_id`) ON DELETE CASCADE,
     FOREIGN KEY (`category_id`) REFERENCES `category`(`category_id`) ON DELETE CASCADE
 );
 
+-- 사용자/일자/카테고리별 지출 합계
+CREATE TABLE `expenditure_daily_rollup` (
+    `user_id` BIGINT NOT NULL,
+    `day` DATE NOT NULL,
+    `category_id` BIGINT NOT NULL,
+    `total` BIGINT NOT NULL DEFAULT 0,
+    `count` INT NOT NULL DEFAULT 0,
+    PRIMARY KEY (`user_id`, `day`, `category_id`)
+);
+
+-- 사용자별 소비내역 변경 버전 (reset_version 이전 토큰은 전체 재동기화)
+CREATE TABLE `expenditure_change_version` (
+    `user_id` BIGINT NOT NULL,
+    `version` BIGINT NOT NULL DEFAULT 0,
+    `reset_version` BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (`user_id`)
+);
+
+-- 보존 기간 정리 정책별 진행 위치
+CREATE TABLE `retention_progress` (
+    `policy` VARCHAR(50) NOT NULL,
+    `last_key` BIGINT NOT NULL DEFAULT 0,
+    `processed_total` BIGINT NOT NULL DEFAULT 0,
+    `last_run_at` TIMESTAMP NULL,
+    `last_completed_at` TIMESTAMP NULL,
+    PRIMARY KEY (`policy`)
+);
+
+-- 보존 기간이 지난 채팅/소비내역 보관 테이블
+CREATE TABLE `chat_message_archive` LIKE `chat_message`;
+ALTER TABLE `chat_message_archive` ADD COLUMN `archived_at` TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP;
+
+CREATE TABLE `expenditure_archive` LIKE `expenditure`;
+ALTER TABLE `expenditure_archive` DROP INDEX `idx_expenditure_transaction_fingerprint`;
+ALTER TABLE `expenditure_archive` ADD COLUMN `archived_at` TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP;
+
 -- user_asset 테이블 추가
 CREATE TABLE `user_asset` (
     `asset_id` BIGINT NOT NULL AUTO_INCREMENT,
@@ -91,6 +140,7 @@ CREATE TABLE `user_asset` (
     `bank_pw` VARCHAR(255),
     `connected_id` VARCHAR(255),
     `created_at` TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    `last_synced_at` TIMESTAMP NULL,
     PRIMARY KEY (`asset_id`),
     FOREIGN KEY (`user_id`) REFERENCES `user`(`user_id`) ON DELETE CASCADE
 );
\ No newline at end of file
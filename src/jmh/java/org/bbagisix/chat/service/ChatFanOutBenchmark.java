@@ -0,0 +1,84 @@
+package org.bbagisix.chat.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.bbagisix.chat.dto.ChatMessageDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * ChatMessageSubscriber 메시지당 처리 비용 비교
+ * legacyParseAndReserialize: 기존 경로 (String 변환 -> DTO 역직렬화 -> 메시지 컨버터로 재직렬화)
+ * passThrough: 현재 경로 (Redis 본문 바이트를 그대로 STOMP 메시지로 포장)
+ *
+ * 실행: ./gradlew jmh (gc 프로파일러의 gc.alloc.rate.norm 값이 메시지당 할당 바이트)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChatFanOutBenchmark {
+
+	private final ObjectMapper objectMapper = new ObjectMapper()
+		.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+		.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false)
+		.findAndRegisterModules();
+
+	private final MappingJackson2MessageConverter converter = new MappingJackson2MessageConverter();
+
+	private byte[] body;
+	private MessageHeaders headers;
+
+	@Setup
+	public void setUp() throws Exception {
+		converter.setObjectMapper(objectMapper);
+
+		ChatMessageDTO message = ChatMessageDTO.builder()
+			.messageId(123456L)
+			.challengeId(42L)
+			.userId(7L)
+			.userName("테스트유저")
+			.message("오늘도 커피값 아꼈습니다! 다들 화이팅")
+			.messageType("MESSAGE")
+			.sentAt(LocalDateTime.now())
+			.build();
+		body = objectMapper.writeValueAsBytes(message);
+
+		SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+		accessor.setLeaveMutable(true);
+		headers = accessor.getMessageHeaders();
+	}
+
+	@Benchmark
+	public Message<?> legacyParseAndReserialize() throws Exception {
+		String messageBody = new String(body, StandardCharsets.UTF_8);
+		ChatMessageDTO chatMessage = objectMapper.readValue(messageBody, ChatMessageDTO.class);
+		return converter.toMessage(chatMessage, headers);
+	}
+
+	@Benchmark
+	public Message<byte[]> passThrough() {
+		return ChatMessageSubscriber.toStompMessage(body);
+	}
+}
@@ -0,0 +1,88 @@
+package org.bbagisix.user.util;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+import org.bbagisix.user.dto.JwtPrincipal;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.util.ReflectionUtils;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+
+/**
+ * 인증 요청당 JWT 처리 비용 비교
+ * legacyPerClaimParse: 기존 JWTFilter 경로 (클레임마다 키 생성 + 서명 검증 + 파싱, 6회)
+ * verifyUncached: 캐시 없이 한 번 검증 및 추출
+ * verifyCached: 최근 검증 토큰 캐시 적중 (SHA-256 해시 + LRU 조회)
+ *
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtVerifyBenchmark {
+
+	private static final String SECRET = "benchmark-secret-key-at-least-32-bytes-long!!";
+
+	private JwtUtil cachedJwtUtil;
+	private JwtUtil uncachedJwtUtil;
+	private String token;
+
+	@Setup
+	public void setUp() {
+		cachedJwtUtil = newJwtUtil(10000);
+		uncachedJwtUtil = newJwtUtil(0);
+		token = cachedJwtUtil.createToken("user@example.com", "USER", "홍길동", "길동", 7L, 60 * 60 * 1000L);
+	}
+
+	@Benchmark
+	public void legacyPerClaimParse(Blackhole blackhole) {
+		for (String claim : new String[] {"exp", "sub", "role", "email", "nickname", "userId"}) {
+			Claims claims = Jwts.parserBuilder()
+				.setSigningKey(Keys.hmacShaKeyFor(SECRET.getBytes()))
+				.build()
+				.parseClaimsJws(token)
+				.getBody();
+			blackhole.consume(claims.get(claim));
+		}
+	}
+
+	@Benchmark
+	public JwtPrincipal verifyUncached() {
+		return uncachedJwtUtil.verify(token);
+	}
+
+	@Benchmark
+	public JwtPrincipal verifyCached() {
+		return cachedJwtUtil.verify(token);
+	}
+
+	private JwtUtil newJwtUtil(int cacheSize) {
+		JwtUtil jwtUtil = new JwtUtil();
+		setField(jwtUtil, "secretKey", SECRET);
+		setField(jwtUtil, "verifyCacheSize", cacheSize);
+		jwtUtil.init();
+		return jwtUtil;
+	}
+
+	private void setField(Object target, String name, Object value) {
+		Field field = ReflectionUtils.findField(JwtUtil.class, name);
+		ReflectionUtils.makeAccessible(field);
+		ReflectionUtils.setField(field, target, value);
+	}
+}
@@ -0,0 +1,21 @@
+package org.bbagisix.asset.domain;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * 화면 표시용 계좌 정보 (암호화 컬럼 제외, 복호화 없이 조회)
+ */
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+public class AssetSummaryVO {
+	private Long assetId;
+	private Long userId;
+	private String assetName;
+	private String bankName;
+	private String status; // main, sub
+}
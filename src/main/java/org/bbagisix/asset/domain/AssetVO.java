@@ -28,4 +28,5 @@ public class AssetVO {
 	private String bankPw;
 	private String connectedId;
 	private String status; // main, sub
+	private Date lastSyncedAt; // 거래내역 동기화 기준 시각 (다음 동기화는 이 시각부터 조회)
 }
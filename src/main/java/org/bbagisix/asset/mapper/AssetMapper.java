@@ -1,10 +1,12 @@
 package org.bbagisix.asset.mapper;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.bbagisix.asset.domain.AssetSummaryVO;
 import org.bbagisix.asset.domain.AssetVO;
 import org.bbagisix.expense.domain.ExpenseVO;
 
@@ -16,24 +18,23 @@ public interface AssetMapper {
 
 	AssetVO selectAssetById(@Param("assetId") Long assetId);
 
+	// 표시용 계좌 요약 조회 (암호화 컬럼 제외)
+	AssetSummaryVO selectAssetSummaryByUserIdAndStatus(@Param("userId") Long userId, @Param("status") String status);
+
+	List<AssetSummaryVO> selectAssetSummariesByIds(@Param("assetIds") Collection<Long> assetIds);
+
 	int deleteUserAssetByUserIdAndStatus(@Param("userId") Long userId, @Param("status") String status);
 
 	int deleteExpensesByUserId(Long userId);
 
-	// 모든 main 계좌 조회
-	List<AssetVO> selectAllMainAssets();
+	// main 계좌를 asset_id 순으로 한 페이지 조회 (afterAssetId 다음부터)
+	List<AssetVO> selectMainAssetsAfter(@Param("afterAssetId") Long afterAssetId, @Param("limit") int limit);
 
 	// 계좌 잔액 업데이트
 	void updateAssetBalance(@Param("assetId") Long assetId, @Param("newBalance") Long newBalance);
 
-	// 중복 거래내역 개수 조회
-	int countDuplicateTransaction(
-		@Param("userId") Long userId,
-		@Param("assetId") Long assetId,
-		@Param("amount") Long amount,
-		@Param("description") String description,
-		@Param("expenditureDate") Date expenditureDate
-	);
+	// 거래내역 동기화 기준 시각 갱신 (이전 값보다 늦을 때만)
+	int updateLastSyncedAt(@Param("assetId") Long assetId, @Param("lastSyncedAt") Date lastSyncedAt);
 
 	// 저금통 계좌 잔액 업데이트(아낀금액만큼 증가)
 	int updateSavingAssetBalance(@Param("assetId") Long assetId, @Param("totalSaving") Long totalSaving);
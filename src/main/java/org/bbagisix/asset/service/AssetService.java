@@ -1,5 +1,8 @@
 package org.bbagisix.asset.service;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -7,7 +10,10 @@ import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashSet;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Set;
 
 import org.bbagisix.asset.domain.AssetVO;
 import org.bbagisix.asset.dto.AssetDTO;
@@ -19,8 +25,11 @@ import org.bbagisix.common.exception.BusinessException;
 import org.bbagisix.common.exception.ErrorCode;
 import org.bbagisix.expense.domain.ExpenseVO;
 import org.bbagisix.expense.mapper.ExpenseMapper;
+import org.bbagisix.expense.service.ExpenseRollupService;
+import org.bbagisix.expense.service.ExpenseVersionService;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
@@ -37,10 +46,14 @@ public class AssetService {
 	private final ClassifyService classifyService;
 
 	private final ExpenseMapper expenseMapper;
+	private final ExpenseRollupService expenseRollupService;
+	private final ExpenseVersionService expenseVersionService;
+	private final TransactionTemplate transactionTemplate;
 
 	private static final int MONTH = 3; // 처음 3개월 소비내역 조회
 	private static final Long TBC = 14L; // 📄 카테고리 id : TBC 미지정
 	private static final Long INCOME = 13L; // 📄 카테고리 id : 수입
+	private static final long MINUTE_MILLIS = 60_000L;
 
 	// 1. 계좌 연동 + 3개월 소비내역 저장
 	// POST /api/assets/connect
@@ -71,7 +84,8 @@ public class AssetService {
 		String todayStr = today.format(DateTimeFormatter.ofPattern("yyyyMMdd"));
 		String startStr = start.format(DateTimeFormatter.ofPattern("yyyyMMdd"));
 
-		// 거래 내역 조회
+		// 거래 내역 조회 (조회 시작 시각을 첫 동기화 기준 시각으로 저장)
+		Date syncedAt = new Date();
 		CodefTransactionResDTO reqDTO = codefApiService.getTransactionList(assetDTO, connectedId, startStr, todayStr,
 			true);
 		if (reqDTO == null) {
@@ -83,7 +97,7 @@ public class AssetService {
 		AssetVO assetVO = createUserAssetVO(userId, assetDTO, connectedId, reqDTO, "main");
 		Long assetId = insertUserAsset(assetVO, "main");
 
-		saveTransactionHistory(assetId, userId, reqDTO);
+		saveTransactionHistory(assetId, userId, reqDTO, syncedAt);
 		String accountName = reqDTO.getResAccountName();
 		return accountName;
 	}
@@ -123,9 +137,13 @@ public class AssetService {
 				throw new BusinessException(ErrorCode.CODEF_FAIL, "Codef API 연결 해제에 실패했습니다.");
 			}
 
-			// main 계좌의 거래내역 삭제
-			int deletedExpenses = assetMapper.deleteExpensesByUserId(userId);
-			log.info("삭제된 거래내역 수: {}", deletedExpenses);
+			// main 계좌의 거래내역 삭제 (물리 삭제라 변경 동기화 클라이언트는 전체 재동기화)
+			transactionTemplate.executeWithoutResult(tx -> {
+				int deletedExpenses = assetMapper.deleteExpensesByUserId(userId);
+				log.info("삭제된 거래내역 수: {}", deletedExpenses);
+				expenseRollupService.rebuildUser(userId);
+				expenseVersionService.recordReset(userId);
+			});
 		}
 
 		// 2 계좌 정보 삭제
@@ -180,8 +198,9 @@ public class AssetService {
 	}
 
 	// 거래 내역 저장
-	private void saveTransactionHistory(Long assetId, Long userId, CodefTransactionResDTO resDTO) {
-		List<ExpenseVO> expenseVOList = toExpenseVOList(assetId, userId, resDTO);
+	private void saveTransactionHistory(Long assetId, Long userId, CodefTransactionResDTO resDTO, Date syncedAt) {
+		List<ExpenseVO> expenseVOList = excludeExistingTransactions(userId, assetId,
+			toExpenseVOList(assetId, userId, resDTO));
 
 		if (!expenseVOList.isEmpty()) {
 			// log.info("llm start.." + expenseVOList.stream().toList());
@@ -191,13 +210,21 @@ public class AssetService {
 				log.info("llm err.." + e.getMessage());
 			}
 			// log.info("llm end.." + expenseVOList.stream().toList());
-			int insertedCount = expenseMapper.insertExpenses(expenseVOList);
-			if (insertedCount != expenseVOList.size()) {
-				throw new BusinessException(ErrorCode.TRANSACTION_FAIL,
-					"일부 거래내역 저장에 실패했습니다. 예상: " + expenseVOList.size() + ", 실제: " + insertedCount);
-			}
+			List<ExpenseVO> expenses = expenseVOList;
+			transactionTemplate.executeWithoutResult(status -> {
+				expenseVersionService.recordChange(userId);
+				int insertedCount = expenseMapper.insertExpenses(expenses);
+				if (insertedCount != expenses.size()) {
+					throw new BusinessException(ErrorCode.TRANSACTION_FAIL,
+						"일부 거래내역 저장에 실패했습니다. 예상: " + expenses.size() + ", 실제: " + insertedCount);
+				}
+				expenseRollupService.recordInserts(expenses);
+				assetMapper.updateLastSyncedAt(assetId, syncedAt);
+			});
 
 		} else {
+			// 저장할 거래가 없어도 계좌는 이미 저장되었으므로 다음 동기화가 조회 시작 시각부터 이어지도록 기록
+			assetMapper.updateLastSyncedAt(assetId, syncedAt);
 			throw new BusinessException(ErrorCode.ASSET_FAIL);
 		}
 	}
@@ -238,6 +265,8 @@ public class AssetService {
 				// Codef transaction ID 생성 (날짜+시간+금액+설명 기반)
 				String codefTransactionId = generateCodefTransactionId(item);
 				expenseVO.setCodefTransactionId(codefTransactionId);
+				// 중복 판단용 거래 지문
+				expenseVO.setTransactionFingerprint(generateTransactionFingerprint(assetId, item));
 
 				expenses.add(expenseVO);
 			}
@@ -254,6 +283,94 @@ public class AssetService {
 			item.getResAccountDesc3() != null ? item.getResAccountDesc3().hashCode() : "0");
 	}
 
+	/**
+	 * 거래 지문: 계좌 + 거래 원본 필드 전체의 SHA-256 (hex 64자)
+	 * 거래 후 잔액까지 포함해 같은 시각/금액/설명의 서로 다른 거래도 구분
+	 */
+	private String generateTransactionFingerprint(Long assetId, CodefTransactionResDTO.HistoryItem item) {
+		String source = String.join("|",
+			String.valueOf(assetId),
+			nullToEmpty(item.getResAccountTrDate()),
+			nullToEmpty(item.getResAccountTrTime()),
+			String.valueOf(amountToLong(item.getResAccountOut())),
+			String.valueOf(amountToLong(item.getResAccountIn())),
+			nullToEmpty(item.getResAccountDesc1()),
+			nullToEmpty(item.getResAccountDesc2()),
+			nullToEmpty(item.getResAccountDesc3()),
+			nullToEmpty(item.getResAccountDesc4()),
+			String.valueOf(amountToLong(item.getResAfterTranBalance())));
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256").digest(source.getBytes(StandardCharsets.UTF_8));
+			return HexFormat.of().formatHex(digest);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private String nullToEmpty(String value) {
+		return value != null ? value.trim() : "";
+	}
+
+	/**
+	 * 이미 저장된 거래 제외 (계좌당 조회 1회)
+	 * - 지문이 같은 행: 사용자가 수정/삭제한 거래도 다시 가져오지 않음
+	 * - 지문 도입 전 행은 codef_transaction_id, 직접 입력한 행은 같은 분/금액/설명으로 비교
+	 * - 같은 응답 안에서 지문이 겹치면 한 건만 남김
+	 */
+	public List<ExpenseVO> excludeExistingTransactions(Long userId, Long assetId, List<ExpenseVO> incoming) {
+		if (incoming.isEmpty()) {
+			return incoming;
+		}
+
+		Set<String> fingerprints = new HashSet<>();
+		Set<String> codefTransactionIds = new HashSet<>();
+		Date from = null;
+		Date to = null;
+		for (ExpenseVO expense : incoming) {
+			fingerprints.add(expense.getTransactionFingerprint());
+			codefTransactionIds.add(expense.getCodefTransactionId());
+			Date date = expense.getExpenditureDate();
+			from = from == null || date.before(from) ? date : from;
+			to = to == null || date.after(to) ? date : to;
+		}
+		// 분 단위 비교이므로 [첫 거래 분 시작, 마지막 거래 분 시작 + 1분)
+		Date rangeFrom = new Date(minuteOf(from) * MINUTE_MILLIS);
+		Date rangeTo = new Date((minuteOf(to) + 1) * MINUTE_MILLIS);
+
+		Set<String> existingFingerprints = new HashSet<>();
+		Set<String> existingCodefTransactionIds = new HashSet<>();
+		Set<String> existingManualKeys = new HashSet<>();
+		for (ExpenseVO existing : expenseMapper.findSyncDuplicates(userId, assetId, fingerprints, codefTransactionIds,
+			rangeFrom, rangeTo)) {
+			if (existing.getTransactionFingerprint() != null) {
+				existingFingerprints.add(existing.getTransactionFingerprint());
+			} else if (existing.getCodefTransactionId() != null) {
+				existingCodefTransactionIds.add(existing.getCodefTransactionId());
+			} else {
+				existingManualKeys.add(manualKey(existing));
+			}
+		}
+
+		List<ExpenseVO> newTransactions = new ArrayList<>();
+		for (ExpenseVO expense : incoming) {
+			if (existingFingerprints.add(expense.getTransactionFingerprint())
+				&& !existingCodefTransactionIds.contains(expense.getCodefTransactionId())
+				&& !existingManualKeys.contains(manualKey(expense))) {
+				newTransactions.add(expense);
+			}
+		}
+		return newTransactions;
+	}
+
+	private long minuteOf(Date date) {
+		return Math.floorDiv(date.getTime(), MINUTE_MILLIS);
+	}
+
+	// 직접 입력한 거래와 비교하는 키 (같은 분 + 금액 + 설명)
+	private String manualKey(ExpenseVO expense) {
+		return minuteOf(expense.getExpenditureDate()) + "|" + expense.getAmount() + "|" + expense.getDescription();
+	}
+
 	// 금액 문자열을 Long으로 변환
 	public Long amountToLong(String amountStr) {
 		if (amountStr == null || amountStr.trim().isEmpty()) {
@@ -0,0 +1,86 @@
+package org.bbagisix.category.service;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.bbagisix.category.domain.CategoryVO;
+import org.bbagisix.category.mapper.CategoryMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * 카테고리 메모리 사전
+ * 카테고리는 거의 변하지 않으므로 전체를 메모리에 두고 조회마다 DB를 타지 않음
+ * 사전에 없는 ID는 단건 조회로 보충하고, 주기적으로 전체 다시 적재
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class CategoryDictionary {
+
+	private final CategoryMapper categoryMapper;
+
+	private volatile Map<Long, CategoryVO> categories;
+
+	public CategoryVO get(Long categoryId) {
+		if (categoryId == null) {
+			return null;
+		}
+
+		Map<Long, CategoryVO> snapshot = categories;
+		if (snapshot == null) {
+			snapshot = refresh();
+		}
+
+		CategoryVO category = snapshot.get(categoryId);
+		if (category == null) {
+			category = categoryMapper.findById(categoryId);
+			if (category != null) {
+				Map<Long, CategoryVO> updated = new HashMap<>(snapshot);
+				updated.put(categoryId, category);
+				categories = Collections.unmodifiableMap(updated);
+			}
+		}
+		return category;
+	}
+
+	public CategoryVO findByName(String name) {
+		if (name == null) {
+			return null;
+		}
+
+		Map<Long, CategoryVO> snapshot = categories;
+		if (snapshot == null) {
+			snapshot = refresh();
+		}
+
+		for (CategoryVO category : snapshot.values()) {
+			if (name.equals(category.getName())) {
+				return category;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * 전체 카테고리 다시 적재
+	 */
+	@Scheduled(fixedDelay = 600000)
+	public Map<Long, CategoryVO> refresh() {
+		List<CategoryVO> all = categoryMapper.findAll();
+		Map<Long, CategoryVO> loaded = new HashMap<>();
+		for (CategoryVO category : all) {
+			loaded.put(category.getCategoryId(), category);
+		}
+
+		Map<Long, CategoryVO> snapshot = Collections.unmodifiableMap(loaded);
+		categories = snapshot;
+		log.debug("카테고리 사전 적재: {}건", snapshot.size());
+		return snapshot;
+	}
+}
@@ -131,21 +131,18 @@ public class ChatController {
 
 	/**
 	 * 채팅 메시지 이력 조회 (JWT 기반)
+	 * 최신순으로 반환, 다음 페이지는 마지막 메시지 ID를 before로 전달
 	 */
 	@GetMapping("/api/chat/{challengeId}/messages")
 	public List<ChatMessageDTO> getChatHistory(@PathVariable Long challengeId,
 		Authentication authentication,
+		@RequestParam(required = false) Long before,
 		@RequestParam(defaultValue = "50") int limit) {
 
 		CustomOAuth2User currentUser = (CustomOAuth2User)authentication.getPrincipal();
 
-		// 사용자가 해당 챌린지에 참여 중인지 확인
-		if (!chatService.isUserParticipatingInChallenge(challengeId, currentUser.getUserId())) {
-			throw new BusinessException(ErrorCode.CHALLENGE_ACCESS_DENIED);
-		}
-
-		// 사용자가 챌린지에 참여한 시점 이후의 메시지만 조회
-		return chatService.getChatHistory(challengeId, currentUser.getUserId(), limit);
+		// 참여 여부 확인 후 챌린지에 참여한 시점 이후의 메시지만 조회 (ChatService에서 처리)
+		return chatService.getChatHistory(challengeId, currentUser.getUserId(), before, limit);
 	}
 
 	/**
@@ -175,6 +172,12 @@ public class ChatController {
 				chatMessage.setChallengeId(challengeId); // URL의 challengeId로 강제 설정
 			}
 
+			// 세션의 사용자 이름 사용 (write-behind 모드에서 DB 조인 없이 응답 생성)
+			Map<String, Object> sessionAttributes = headerAccessor.getSessionAttributes();
+			if (sessionAttributes != null && sessionAttributes.get("userName") instanceof String) {
+				chatMessage.setUserName((String)sessionAttributes.get("userName"));
+			}
+
 			// 메시지를 VO → Entity 변환 후 DB에 저장
 			// Redis pub/sub 발행 (ChatService에서 처리)
 			ChatMessageDTO savedMessage = chatService.saveMessage(chatMessage);
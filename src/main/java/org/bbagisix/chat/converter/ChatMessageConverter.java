@@ -46,6 +46,25 @@ public class ChatMessageConverter {
 			.build();
 	}
 
+	/**
+	 * VO -> Entity (write-behind 저장용, 발급된 ID와 사용자 이름 포함)
+	 */
+	public ChatMessage toEntity(ChatMessageVO vo, Long messageId, String userName) {
+		if (vo == null) {
+			return null;
+		}
+
+		return ChatMessage.builder()
+			.messageId(messageId)
+			.challengeId(vo.getChallengeId())
+			.userId(vo.getUserId())
+			.message(vo.getMessage())
+			.messageType(vo.getMessageType())
+			.sentAt(vo.getSentAt())
+			.userName(userName)
+			.build();
+	}
+
 	/**
 	 * Entity → VO
 	 */
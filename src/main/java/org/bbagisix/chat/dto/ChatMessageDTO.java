@@ -5,6 +5,8 @@ import java.time.LocalDateTime;
 import javax.validation.constraints.NotNull;
 import javax.validation.constraints.Size;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -36,6 +38,12 @@ public class ChatMessageDTO {
 	// 추가 필드 (Join)
 	private String userName;
 
+	// Redis Streams 전송 사용 시 스트림 ID (재접속 시 last-stream-id 헤더로 전달)
+	// 재접속 직후에는 재전송분과 실시간 메시지가 함께 도착해 중복되거나 순서가 바뀔 수 있으므로
+	// 클라이언트는 streamId로 중복을 제거하고 streamId 순("ms-seq", ms 다음 seq를 숫자로 비교)으로 정렬해야 함
+	@JsonInclude(JsonInclude.Include.NON_NULL)
+	private String streamId;
+
 	// 클라이언트 전송용 생성자
 	public ChatMessageDTO(Long challengeId, Long userId, String message, String messageType) {
 		this.challengeId = challengeId;
@@ -0,0 +1,38 @@
+package org.bbagisix.chat.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 입장/퇴장/접속자 수 변경을 일정 시간 모아 한 번에 전달하는 프레임
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PresenceDiffDTO {
+
+	public static final String MESSAGE_TYPE = "PRESENCE";
+
+	@Builder.Default
+	private String messageType = MESSAGE_TYPE;
+	private Long challengeId;
+	private int count;                     // 클러스터 전체 접속자 수
+	private List<PresenceUser> joined;     // 구간 내 순입장 사용자
+	private List<PresenceUser> left;       // 구간 내 순퇴장 사용자
+
+	@Getter
+	@Setter
+	@NoArgsConstructor
+	@AllArgsConstructor
+	public static class PresenceUser {
+		private Long userId;
+		private String userName;
+	}
+}
@@ -0,0 +1,186 @@
+package org.bbagisix.chat.interceptior;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 아웃바운드 채널 백프레셔 인터셉터
+ * 세션별 미전송 메시지 수를 추적해 한도를 넘으면 브로드캐스트 메시지를 버리거나(DROP) 세션을 종료(CLOSE)
+ * 느린 클라이언트 하나가 아웃바운드 스레드와 메모리를 점유해 다른 구독자의 지연을 늘리지 않도록 함
+ */
+@Slf4j
+@Component
+public class OutboundBackpressureInterceptor implements ExecutorChannelInterceptor, WebSocketHandlerDecoratorFactory {
+
+	private static final String ENQUEUED_AT_HEADER = "outboundEnqueuedAt";
+	private static final String POLICY_CLOSE = "CLOSE";
+
+	@Value("${WS_OUTBOUND_MAX_PENDING:500}")
+	private int maxPending;
+	@Value("${WS_SLOW_CONSUMER_POLICY:DROP}")
+	private String slowConsumerPolicy;
+
+	private final Map<String, WebSocketSession> sessions = new ConcurrentHashMap<>();
+	private final Map<String, AtomicInteger> pendingBySession = new ConcurrentHashMap<>();
+
+	// 통계
+	private final AtomicLong handledMessages = new AtomicLong();
+	private final AtomicLong totalQueueLatencyMicros = new AtomicLong();
+	private final AtomicLong maxQueueLatencyMicros = new AtomicLong();
+	private final AtomicLong droppedMessages = new AtomicLong();
+	private final AtomicLong closedSessions = new AtomicLong();
+
+	/**
+	 * 세션 종료 처리를 위해 WebSocket 세션 등록/해제
+	 */
+	@Override
+	public WebSocketHandler decorate(WebSocketHandler handler) {
+		return new WebSocketHandlerDecorator(handler) {
+			@Override
+			public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+				sessions.put(session.getId(), session);
+				pendingBySession.put(session.getId(), new AtomicInteger());
+				super.afterConnectionEstablished(session);
+			}
+
+			@Override
+			public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+				sessions.remove(session.getId());
+				pendingBySession.remove(session.getId());
+				super.afterConnectionClosed(session, closeStatus);
+			}
+		};
+	}
+
+	@Override
+	public Message<?> preSend(Message<?> message, MessageChannel channel) {
+		String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+		AtomicInteger pending = sessionId != null ? pendingBySession.get(sessionId) : null;
+		if (pending == null) {
+			return message;
+		}
+
+		// 구독 메시지만 버림 (CONNECT_ACK, 에러 등 제어 프레임은 항상 전달)
+		boolean broadcast = SimpMessageType.MESSAGE.equals(
+			SimpMessageHeaderAccessor.getMessageType(message.getHeaders()));
+		if (broadcast && pending.get() >= maxPending) {
+			handleSlowConsumer(sessionId, pending.get());
+			return null;
+		}
+
+		pending.incrementAndGet();
+		MessageHeaderAccessor accessor = MessageHeaderAccessor.getMutableAccessor(message);
+		accessor.setHeader(ENQUEUED_AT_HEADER, System.nanoTime());
+		return MessageBuilder.createMessage(message.getPayload(), accessor.getMessageHeaders());
+	}
+
+	@Override
+	public void afterSendCompletion(Message<?> message, MessageChannel channel, boolean sent, Exception ex) {
+		// 실행기에 넘기지 못한 경우 (거부 등) 대기 수 원복
+		if (ex != null) {
+			release(message);
+		}
+	}
+
+	@Override
+	public Message<?> beforeHandle(Message<?> message, MessageChannel channel, MessageHandler handler) {
+		Long enqueuedAt = message.getHeaders().get(ENQUEUED_AT_HEADER, Long.class);
+		if (enqueuedAt != null) {
+			long latencyMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - enqueuedAt);
+			totalQueueLatencyMicros.addAndGet(latencyMicros);
+			maxQueueLatencyMicros.accumulateAndGet(latencyMicros, Math::max);
+			handledMessages.incrementAndGet();
+		}
+		return message;
+	}
+
+	@Override
+	public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler,
+		Exception ex) {
+		release(message);
+	}
+
+	private void release(Message<?> message) {
+		if (!message.getHeaders().containsKey(ENQUEUED_AT_HEADER)) {
+			return;
+		}
+		AtomicInteger pending = pendingBySession.get(SimpMessageHeaderAccessor.getSessionId(message.getHeaders()));
+		if (pending != null) {
+			pending.decrementAndGet();
+		}
+	}
+
+	private void handleSlowConsumer(String sessionId, int pending) {
+		droppedMessages.incrementAndGet();
+		if (!POLICY_CLOSE.equalsIgnoreCase(slowConsumerPolicy)) {
+			log.debug("느린 클라이언트 메시지 버림: sessionId={}, pending={}", sessionId, pending);
+			return;
+		}
+
+		WebSocketSession session = sessions.remove(sessionId);
+		if (session == null) {
+			return;    // 이미 종료 처리 중
+		}
+		closedSessions.incrementAndGet();
+		log.warn("느린 클라이언트 세션 종료: sessionId={}, pending={}", sessionId, pending);
+		try {
+			session.close(CloseStatus.SESSION_NOT_RELIABLE);
+		} catch (IOException e) {
+			log.warn("느린 클라이언트 세션 종료 실패: sessionId={}", sessionId, e);
+		}
+	}
+
+	public int getPending(String sessionId) {
+		AtomicInteger pending = pendingBySession.get(sessionId);
+		return pending != null ? pending.get() : 0;
+	}
+
+	public long getDroppedMessages() {
+		return droppedMessages.get();
+	}
+
+	public long getClosedSessions() {
+		return closedSessions.get();
+	}
+
+	/**
+	 * 주기적 통계 로깅 (최대 지연은 구간별로 초기화)
+	 */
+	@Scheduled(fixedDelay = 60000)
+	public void reportStats() {
+		long handled = handledMessages.getAndSet(0);
+		long totalLatency = totalQueueLatencyMicros.getAndSet(0);
+		long maxLatency = maxQueueLatencyMicros.getAndSet(0);
+		if (handled == 0 && droppedMessages.get() == 0) {
+			return;
+		}
+
+		log.info("아웃바운드 채널 통계: sessions={}, handled={}, avgQueueLatencyMs={}, maxQueueLatencyMs={}, "
+				+ "dropped={}, closedSessions={}",
+			sessions.size(), handled, handled > 0 ? totalLatency / handled / 1000.0 : 0, maxLatency / 1000.0,
+			droppedMessages.get(), closedSessions.get());
+	}
+}
@@ -4,6 +4,7 @@ import java.util.List;
 import java.util.Map;
 
 import org.bbagisix.user.dto.CustomOAuth2User;
+import org.bbagisix.user.dto.JwtPrincipal;
 import org.bbagisix.user.dto.UserResponse;
 import org.bbagisix.user.util.JwtUtil;
 import org.springframework.messaging.Message;
@@ -54,17 +55,17 @@ public class WebSocketJwtInterceptor implements ChannelInterceptor {
 				return;
 			}
 
-			// JWT 토큰 검증
-			if (!jwtUtil.isExpired(token)) {
+			// JWT 토큰 검증 및 사용자 정보 추출 (HTTP 필터와 같은 검증 캐시 사용)
+			JwtPrincipal principal = jwtUtil.verify(token);
+			if (principal == null) {
 				log.warn("❌ WebSocket 연결: 유효하지 않은 JWT 토큰");
 				return;
 			}
 
-			// 토큰에서 사용자 정보 추출
-			String email = jwtUtil.getEmail(token);
-			String name = jwtUtil.getName(token);    // email 반환
-			String nickname = jwtUtil.getNickname(token);
-			Long userId = jwtUtil.getUserId(token);
+			String email = principal.getEmail();
+			String name = principal.getName();    // email 반환
+			String nickname = principal.getNickname();
+			Long userId = principal.getUserId();
 
 			// 실제 이름은 nickname을 사용
 			String displayName = nickname != null ? nickname : name;
@@ -1,5 +1,6 @@
 package org.bbagisix.chat.mapper;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 
@@ -15,6 +16,12 @@ public interface ChatMapper {
 	// 채팅 메시지 저장 (Entity)
 	int insertMessage(ChatMessage chatMessage);
 
+	// 채팅 메시지 일괄 저장 (write-behind, message_id 지정)
+	int insertMessages(List<ChatMessage> chatMessages);
+
+	// 최대 메시지 ID 조회 (ID 발급기 초기화용)
+	long selectMaxMessageId();
+
 	// 특정 메시지 조회 (사용자 정보 포함)
 	ChatMessage selectMessageById(@Param("messageId") Long messageId);
 
@@ -27,10 +34,11 @@ public interface ChatMapper {
 	// 특정 챌린지의 참여자 목록 조회
 	List<Map<String, Object>> selectParticipants(@Param("challengeId") Long challengeId);
 
-	// 사용자가 챌린지에 참여한 시점 이후의 채팅 메시지 조회
-	List<ChatHistoryDTO> selectChatHistoryByUserParticipation(
+	// 참여 시점(since) 이후의 채팅 메시지를 최신순으로 조회 (beforeMessageId 커서 기반 페이징, since 생략 시 전체)
+	List<ChatHistoryDTO> selectChatHistoryPage(
 		@Param("challengeId") Long challengeId,
-		@Param("userId") Long userId,
+		@Param("since") LocalDateTime since,
+		@Param("beforeMessageId") Long beforeMessageId,
 		@Param("limit") int limit
 	);
 
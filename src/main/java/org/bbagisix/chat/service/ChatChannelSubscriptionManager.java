@@ -0,0 +1,129 @@
+package org.bbagisix.chat.service;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 채팅방 Redis 채널 동적 구독 관리
+ * 이 노드에 /topic/chat/{id} 구독자가 한 명 이상 있을 때만 chat:channel:{id}를 구독하고
+ * 마지막 구독자가 나가면 구독 해제 -> 노드의 Redis 수신량이 로컬 채팅방 수에 비례
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatChannelSubscriptionManager {
+
+	private static final String CHAT_TOPIC_PREFIX = "/topic/chat/";
+	private static final String CHAT_CHANNEL_PREFIX = "chat:channel:";
+
+	private final RedisMessageListenerContainer redisMessageListenerContainer;
+	private final ChatMessageSubscriber chatMessageSubscriber;
+
+	// sessionId:subscriptionId -> challengeId
+	private final Map<String, Long> subscriptionRooms = new ConcurrentHashMap<>();
+	// challengeId -> 로컬 구독 수
+	private final Map<Long, Integer> roomSubscriberCounts = new ConcurrentHashMap<>();
+	// 현재 Redis 채널을 구독 중인 방 (reconcile 안에서만 변경)
+	private final Set<Long> subscribedRooms = new HashSet<>();
+
+	@EventListener
+	public void handleSubscribe(SessionSubscribeEvent event) {
+		SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+		Long challengeId = extractChallengeId(accessor.getDestination());
+		if (challengeId == null) {
+			return;
+		}
+
+		String subscriptionKey = accessor.getSessionId() + ":" + accessor.getSubscriptionId();
+		if (subscriptionRooms.putIfAbsent(subscriptionKey, challengeId) != null) {
+			return;    // 중복 SUBSCRIBE
+		}
+
+		roomSubscriberCounts.merge(challengeId, 1, Integer::sum);
+		reconcile(challengeId);
+	}
+
+	@EventListener
+	public void handleUnsubscribe(SessionUnsubscribeEvent event) {
+		SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+		release(accessor.getSessionId() + ":" + accessor.getSubscriptionId());
+	}
+
+	@EventListener
+	public void handleDisconnect(SessionDisconnectEvent event) {
+		String prefix = event.getSessionId() + ":";
+		subscriptionRooms.keySet().stream()
+			.filter(key -> key.startsWith(prefix))
+			.forEach(this::release);
+	}
+
+	public Set<Long> getSubscribedRooms() {
+		synchronized (subscribedRooms) {
+			return new HashSet<>(subscribedRooms);
+		}
+	}
+
+	private void release(String subscriptionKey) {
+		Long challengeId = subscriptionRooms.remove(subscriptionKey);
+		if (challengeId == null) {
+			return;
+		}
+
+		roomSubscriberCounts.computeIfPresent(challengeId, (key, count) -> count > 1 ? count - 1 : null);
+		reconcile(challengeId);
+	}
+
+	/**
+	 * 로컬 구독 수와 Redis 채널 구독 상태를 맞춤
+	 * 구독/해제가 엇갈려도 최종 상태가 로컬 구독 수를 따르도록 방 단위 전이만 직렬화
+	 */
+	private void reconcile(Long challengeId) {
+		synchronized (subscribedRooms) {
+			boolean hasLocalSubscribers = roomSubscriberCounts.containsKey(challengeId);
+			boolean subscribed = subscribedRooms.contains(challengeId);
+			ChannelTopic topic = new ChannelTopic(CHAT_CHANNEL_PREFIX + challengeId);
+
+			try {
+				if (hasLocalSubscribers && !subscribed) {
+					redisMessageListenerContainer.addMessageListener(chatMessageSubscriber, topic);
+					subscribedRooms.add(challengeId);
+					log.info("Redis 채팅 채널 구독: {}", topic.getTopic());
+				} else if (!hasLocalSubscribers && subscribed) {
+					redisMessageListenerContainer.removeMessageListener(chatMessageSubscriber, topic);
+					subscribedRooms.remove(challengeId);
+					log.info("Redis 채팅 채널 구독 해제: {}", topic.getTopic());
+				}
+			} catch (Exception e) {
+				log.error("Redis 채팅 채널 구독 변경 실패: channel={}", topic.getTopic(), e);
+			}
+		}
+	}
+
+	/**
+	 * "/topic/chat/123" -> 123
+	 */
+	private Long extractChallengeId(String destination) {
+		if (destination == null || !destination.startsWith(CHAT_TOPIC_PREFIX)) {
+			return null;
+		}
+		try {
+			return Long.parseLong(destination.substring(CHAT_TOPIC_PREFIX.length()));
+		} catch (NumberFormatException e) {
+			return null;
+		}
+	}
+}
@@ -0,0 +1,53 @@
+package org.bbagisix.chat.service;
+
+import org.bbagisix.chat.mapper.ChatMapper;
+import org.bbagisix.common.exception.BusinessException;
+import org.bbagisix.common.exception.ErrorCode;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 채팅 메시지 ID 발급기 (write-behind 모드 전용)
+ * DB INSERT 전에 ID가 필요하므로 Redis INCR로 클러스터 전체에서 단조 증가하는 ID를 발급
+ * 모든 노드가 같은 카운터를 사용해야 하므로 write-behind 모드는 전 노드에서 함께 켜야 함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatMessageIdGenerator {
+
+	private static final String MESSAGE_SEQUENCE_KEY = "chat:message:seq";
+
+	private final StringRedisTemplate stringRedisTemplate;
+	private final ChatMapper chatMapper;
+
+	/**
+	 * 카운터를 DB의 최대 message_id 이상으로 맞춤
+	 * 여러 노드가 동시에 보정해도 ID가 건너뛸 뿐 중복되지는 않음
+	 */
+	public void initialize() {
+		long maxMessageId = chatMapper.selectMaxMessageId();
+		Long current = stringRedisTemplate.opsForValue().increment(MESSAGE_SEQUENCE_KEY, 0);
+		long currentValue = current != null ? current : 0L;
+
+		if (currentValue < maxMessageId) {
+			stringRedisTemplate.opsForValue().increment(MESSAGE_SEQUENCE_KEY, maxMessageId - currentValue);
+		}
+		log.info("채팅 메시지 ID 카운터 초기화 완료: dbMax={}, redis={}", maxMessageId,
+			Math.max(currentValue, maxMessageId));
+	}
+
+	/**
+	 * 다음 메시지 ID 발급
+	 */
+	public Long nextId() {
+		Long id = stringRedisTemplate.opsForValue().increment(MESSAGE_SEQUENCE_KEY);
+		if (id == null) {
+			throw new BusinessException(ErrorCode.MESSAGE_SAVE_FAILED, "메시지 ID를 발급할 수 없습니다.");
+		}
+		return id;
+	}
+}
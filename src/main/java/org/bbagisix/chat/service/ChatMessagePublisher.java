@@ -1,6 +1,9 @@
 package org.bbagisix.chat.service;
 
+import java.util.Map;
+
 import org.bbagisix.chat.dto.ChatMessageDTO;
+import org.bbagisix.chat.dto.PresenceDiffDTO;
 import org.bbagisix.common.exception.BusinessException;
 import org.bbagisix.common.exception.ErrorCode;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -17,20 +20,31 @@ public class ChatMessagePublisher {
 
 	@Qualifier("chatRedisTemplate")
 	private final RedisTemplate<String, Object> redisTemplate;    // pub/sub 메시지 발행 및 데이터 저장/조회
+	private final ChatRecentMessageCache recentMessageCache;
+	private final ChatStreamTransport streamTransport;
 
 	private static final String CHAT_CHANNEL_PREFIX = "chat:channel:";    // 채팅방 별 격리와 패턴 매칭 위해 사용
 
 	/**
 	 * 특정 챌린지 채널로 메시지 발행
+	 * 채널로 나가는 JSON은 클라이언트가 받는 최종 형태 (구독 측은 재직렬화 없이 전달)
 	 */
 	public void publishMessage(Long challengeId, ChatMessageDTO message) {
 		try {
 			String channel = CHAT_CHANNEL_PREFIX + challengeId;
 			log.debug("Redis로 메시지 발행: channel={}, message={}", channel, message.getMessage());
 
+			// 스트림에 먼저 보관해 실시간 메시지에도 스트림 ID가 실리도록 함
+			if (streamTransport.isEnabled()) {
+				message.setStreamId(streamTransport.append(challengeId, message));
+			}
+
 			// Redis pub/sub로 메시지 발행
 			redisTemplate.convertAndSend(channel, message);
 			log.debug("메시지 발행 완료: challengeId={}", challengeId);
+
+			// 최근 메시지 버퍼에 추가 (저장된 메시지만, 실패해도 발행에는 영향 없음)
+			recentMessageCache.append(challengeId, message);
 		} catch (Exception e) {
 			log.error("Redis 메시지 발행 중 오류: challengeId={}", challengeId, e);
 			throw new BusinessException(ErrorCode.WEBSOCKET_SEND_FAILED, e);
@@ -39,17 +53,17 @@ public class ChatMessagePublisher {
 
 	/**
 	 * 접속자 수 변경 브로드캐스트
+	 * 구독 노드가 그대로 전달할 수 있도록 클라이언트 최종 형태로 발행
 	 */
 	public void publishParticipantCount(Long challengeId, int count) {
 		try {
 			String channel = CHAT_CHANNEL_PREFIX + challengeId;
 
-			ChatMessageDTO countMessage = ChatMessageDTO.builder()
-				.challengeId(challengeId)
-				.messageType("PARTICIPANT_COUNT")
-				.userId(0L)        // 시스템 메시지
-				.message(String.valueOf(count))
-				.build();
+			Map<String, Object> countMessage = Map.of(
+				"type", "PARTICIPANT_COUNT",
+				"challengeId", challengeId,
+				"count", count
+			);
 
 			log.debug("Redis로 접속자 수 발행: channel={}, count={}", channel, count);
 
@@ -61,4 +75,18 @@ public class ChatMessagePublisher {
 			throw new BusinessException(ErrorCode.WEBSOCKET_SEND_FAILED, e);
 		}
 	}
+
+	/**
+	 * 입장/퇴장/접속자 수 병합 프레임 발행
+	 */
+	public void publishPresence(Long challengeId, PresenceDiffDTO presence) {
+		try {
+			String channel = CHAT_CHANNEL_PREFIX + challengeId;
+			redisTemplate.convertAndSend(channel, presence);
+			log.debug("접속 변경 발행 완료: channel={}, count={}", channel, presence.getCount());
+		} catch (Exception e) {
+			log.error("접속 변경 Redis 발행 중 오류: challengeId={}", challengeId, e);
+			throw new BusinessException(ErrorCode.WEBSOCKET_SEND_FAILED, e);
+		}
+	}
 }
@@ -1,16 +1,15 @@
 package org.bbagisix.chat.service;
 
-import java.util.Map;
+import java.nio.charset.StandardCharsets;
 
-import org.bbagisix.chat.dto.ChatMessageDTO;
 import org.springframework.data.redis.connection.Message;
 import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
 import org.springframework.stereotype.Component;
-
-import com.fasterxml.jackson.databind.DeserializationFeature;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.util.MimeType;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -20,69 +19,47 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class ChatMessageSubscriber implements MessageListener {
 
+	private static final String CHAT_CHANNEL_PREFIX = "chat:channel:";
+	private static final String CHAT_TOPIC_PREFIX = "/topic/chat/";
+	private static final MimeType JSON_UTF8 = new MimeType("application", "json", StandardCharsets.UTF_8);
+
 	private final SimpMessagingTemplate messagingTemplate;
-	private final ObjectMapper objectMapper = new ObjectMapper()
-		.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)    // 알 수 없는 필드 무시
-		.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false)    // ISO 문자열로 직렬화
-		.findAndRegisterModules();
 
+	/**
+	 * Redis 메시지를 WebSocket 구독자에게 전달
+	 * 발행 측(ChatMessagePublisher)이 클라이언트 최종 형태의 JSON을 보내므로
+	 * 본문을 파싱하지 않고 채널명으로만 라우팅해 바이트 그대로 STOMP 메시지로 전달
+	 */
 	@Override
 	public void onMessage(Message message, byte[] pattern) {
+		Long challengeId = null;
 		try {
-			// 채널명 추출
-			String channel = new String(message.getChannel());
-			String messageBody = new String(message.getBody());
-
-			log.debug("Redis에서 메시지 수신: channel={}, body={}", channel, messageBody);
-
-			// JSON -> ChatMessageDTO (역직렬화)
-			ChatMessageDTO chatMessage = objectMapper.readValue(messageBody, ChatMessageDTO.class);
-
 			// 채널명에서 challengeId 추출
-			Long challengeId = extractChallengeIdFromChannel(channel);
+			String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+			challengeId = extractChallengeIdFromChannel(channel);
 
 			if (challengeId == null) {
 				log.warn("잘못된 채널 형식: {}", channel);
 				return;
 			}
 
-			// 메시지 타입에 따른 처리
-			handleMessage(challengeId, chatMessage);
+			byte[] body = message.getBody();
+			messagingTemplate.send(CHAT_TOPIC_PREFIX + challengeId, toStompMessage(body));
+			log.debug("채팅 메시지 전송: challengeId={}, bytes={}", challengeId, body.length);
 
 		} catch (Exception e) {
-			log.error("Redis 메시지 처리 중 오류 (무시하고 계속): ", e);
+			log.error("Redis 메시지 처리 중 오류 (무시하고 계속): challengeId={}", challengeId, e);
 		}
 	}
 
 	/**
-	 * 메시지 타입에 따른 처리
-	 * @param challengeId
-	 * @param chatMessage
+	 * 직렬화된 JSON 바이트를 그대로 담은 STOMP 메시지 생성
 	 */
-	private void handleMessage(Long challengeId, ChatMessageDTO chatMessage) {
-		try {
-			if ("PARTICIPANT_COUNT".equals(chatMessage.getMessageType())) {
-				int count = Integer.parseInt(chatMessage.getMessage());
-
-				// 접속자 수 업데이트 메시지 - Map
-				Map<String, Object> countMessage = Map.of(
-					"type", "PARTICIPANT_COUNT",
-					"challengeId", challengeId,
-					"count", count
-				);
-
-				// 채팅 채널로 통합 전송 (프론트엔드에서 하나의 구독으로 처리)
-				messagingTemplate.convertAndSend("/topic/chat/" + challengeId, countMessage);
-				log.debug("접속자 수 업데이트 전송: challengeId={}, count={}", challengeId, count);
-
-			} else {
-				// 일반 채팅 메시지
-				messagingTemplate.convertAndSend("/topic/chat/" + challengeId, chatMessage);
-				log.debug("채팅 메시지 전송: challengeId={}, messageType={}", challengeId, chatMessage.getMessageType());
-			}
-		} catch (Exception e) {
-			log.error("WebSocket 메시지 전송 중 오류 (무시하고 계속): challengeId={}", challengeId, e);
-		}
+	static org.springframework.messaging.Message<byte[]> toStompMessage(byte[] body) {
+		SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+		accessor.setContentType(JSON_UTF8);
+		accessor.setLeaveMutable(true);    // SimpMessagingTemplate가 destination 헤더를 추가할 수 있도록
+		return MessageBuilder.createMessage(body, accessor.getMessageHeaders());
 	}
 
 	/**
@@ -91,8 +68,8 @@ public class ChatMessageSubscriber implements MessageListener {
 	 */
 	private Long extractChallengeIdFromChannel(String channel) {
 		try {
-			if (channel != null && channel.startsWith("chat:channel:")) {
-				String idPart = channel.substring("chat:channel:".length());
+			if (channel != null && channel.startsWith(CHAT_CHANNEL_PREFIX)) {
+				String idPart = channel.substring(CHAT_CHANNEL_PREFIX.length());
 				return Long.parseLong(idPart);
 			}
 		} catch (NumberFormatException e) {
@@ -0,0 +1,318 @@
+package org.bbagisix.chat.service;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.management.ObjectName;
+
+import org.bbagisix.chat.entity.ChatMessage;
+import org.bbagisix.chat.mapper.ChatMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 채팅 메시지 write-behind 버퍼
+ * 메시지를 bounded 큐에 쌓아두고 전용 스레드가 시간/개수 기준으로 multi-row INSERT 배치 저장
+ * 큐가 가득 차거나 종료 중이면 호출 스레드에서 즉시 저장 (메시지 유실 방지)
+ * DB 장애로 저장하지 못한 배치는 재시도 큐에 보관하고, 복구될 때까지 간격을 늘려가며 재시도
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatMessageWriteBehindBuffer implements ChatMessageWriteBehindMXBean {
+
+	private static final String MBEAN_NAME = "org.bbagisix.chat:type=ChatMessageWriteBehind";
+	private static final long RETRY_INITIAL_BACKOFF_MS = 1000;
+	private static final long RETRY_MAX_BACKOFF_MS = 30000;
+
+	private final ChatMapper chatMapper;
+	private final ChatMessageIdGenerator messageIdGenerator;
+
+	@Value("${CHAT_WRITE_BEHIND_ENABLED:false}")
+	private boolean enabled;
+	@Value("${CHAT_WRITE_BEHIND_QUEUE_CAPACITY:10000}")
+	private int queueCapacity;
+	@Value("${CHAT_WRITE_BEHIND_BATCH_SIZE:200}")
+	private int batchSize;
+	@Value("${CHAT_WRITE_BEHIND_FLUSH_INTERVAL_MS:200}")
+	private long flushIntervalMs;
+
+	private BlockingQueue<ChatMessage> queue;
+	private BlockingQueue<ChatMessage> retryQueue;    // 저장 실패로 DB 복구를 기다리는 메시지
+	private Thread flusher;
+	private volatile boolean running;
+
+	// flusher 스레드에서만 사용
+	private long retryBackoffMs = RETRY_INITIAL_BACKOFF_MS;
+	private long nextRetryAt;
+
+	// 모니터링 지표
+	private final AtomicLong enqueuedCount = new AtomicLong();
+	private final AtomicLong flushedCount = new AtomicLong();
+	private final AtomicLong batchCount = new AtomicLong();
+	private final AtomicLong fallbackCount = new AtomicLong();
+	private final AtomicLong failedCount = new AtomicLong();
+
+	@PostConstruct
+	public void start() {
+		if (!enabled) {
+			return;
+		}
+		messageIdGenerator.initialize();
+
+		queue = new ArrayBlockingQueue<>(queueCapacity);
+		retryQueue = new ArrayBlockingQueue<>(queueCapacity);
+		running = true;
+		flusher = new Thread(this::runFlushLoop, "chat-write-behind");
+		flusher.setDaemon(true);
+		flusher.start();
+		registerMBean();
+
+		log.info("채팅 write-behind 활성화: capacity={}, batchSize={}, flushIntervalMs={}",
+			queueCapacity, batchSize, flushIntervalMs);
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * 메시지 저장 예약 (ID는 호출 전에 발급되어 있어야 함)
+	 */
+	public void enqueue(ChatMessage message) {
+		if (running && queue.offer(message)) {
+			enqueuedCount.incrementAndGet();
+			return;
+		}
+
+		// 큐 포화 또는 종료 중 -> 호출 스레드에서 바로 저장
+		fallbackCount.incrementAndGet();
+		log.warn("write-behind 큐 사용 불가, 즉시 저장: messageId={}, queueDepth={}",
+			message.getMessageId(), getQueueDepth());
+		hold(flush(Collections.singletonList(message)));
+	}
+
+	@Override
+	public int getQueueDepth() {
+		return queue != null ? queue.size() : 0;
+	}
+
+	@Override
+	public int getRetryDepth() {
+		return retryQueue != null ? retryQueue.size() : 0;
+	}
+
+	@Override
+	public long getEnqueuedCount() {
+		return enqueuedCount.get();
+	}
+
+	@Override
+	public long getFlushedCount() {
+		return flushedCount.get();
+	}
+
+	@Override
+	public long getFallbackCount() {
+		return fallbackCount.get();
+	}
+
+	@Override
+	public long getFailedCount() {
+		return failedCount.get();
+	}
+
+	private void runFlushLoop() {
+		List<ChatMessage> batch = new ArrayList<>(batchSize);
+
+		while (running || !queue.isEmpty()) {
+			try {
+				// 재저장할 메시지가 남아 있으면 DB가 복구될 때까지 새 메시지는 큐에 둠
+				if (!retryQueue.isEmpty() && !retryFailed()) {
+					if (!running) {
+						break;    // 종료 중이면 남은 메시지는 shutdown에서 처리
+					}
+					continue;
+				}
+
+				ChatMessage first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+				if (first == null) {
+					continue;
+				}
+				batch.add(first);
+
+				// 첫 메시지 기준 flushIntervalMs 안에 batchSize 만큼 모아서 저장 (group commit)
+				long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+				while (batch.size() < batchSize) {
+					queue.drainTo(batch, batchSize - batch.size());
+					long remaining = deadline - System.nanoTime();
+					if (batch.size() >= batchSize || remaining <= 0 || !running) {
+						break;
+					}
+					ChatMessage next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+					if (next == null) {
+						break;
+					}
+					batch.add(next);
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				running = false;
+			} finally {
+				if (!batch.isEmpty()) {
+					List<ChatMessage> failed = flush(batch);
+					if (!failed.isEmpty()) {
+						hold(failed);
+						scheduleRetry();
+					}
+					batch.clear();
+				}
+			}
+		}
+	}
+
+	/**
+	 * 재시도 시각이 되면 보관한 메시지를 batchSize씩 다시 저장, 모두 저장하면 true
+	 */
+	private boolean retryFailed() throws InterruptedException {
+		long wait = nextRetryAt - System.currentTimeMillis();
+		if (wait > 0) {
+			Thread.sleep(Math.min(wait, flushIntervalMs));
+			return false;
+		}
+
+		List<ChatMessage> batch = new ArrayList<>(batchSize);
+		while (retryQueue.drainTo(batch, batchSize) > 0) {
+			List<ChatMessage> failed = flush(batch);
+			if (!failed.isEmpty()) {
+				hold(failed);
+				scheduleRetry();
+				return false;
+			}
+			batch.clear();
+		}
+		retryBackoffMs = RETRY_INITIAL_BACKOFF_MS;
+		log.info("보관한 채팅 메시지 재저장 완료, 배치 저장 재개");
+		return true;
+	}
+
+	private void scheduleRetry() {
+		nextRetryAt = System.currentTimeMillis() + retryBackoffMs;
+		log.warn("채팅 메시지 저장 실패, {}ms 후 재시도: retryDepth={}", retryBackoffMs, getRetryDepth());
+		retryBackoffMs = Math.min(retryBackoffMs * 2, RETRY_MAX_BACKOFF_MS);
+	}
+
+	// 재시도 큐에 보관, 재시도 큐도 가득 차면 유실
+	private void hold(List<ChatMessage> failed) {
+		for (ChatMessage message : failed) {
+			if (!retryQueue.offer(message)) {
+				failedCount.incrementAndGet();
+				log.error("채팅 메시지 재시도 큐 포화 (유실): messageId={}, challengeId={}",
+					message.getMessageId(), message.getChallengeId());
+			}
+		}
+	}
+
+	/**
+	 * multi-row INSERT로 저장하고 저장하지 못한 메시지 반환
+	 * 데이터 오류면 한 건씩 재시도해 문제 메시지만 격리 (다시 시도해도 실패하므로 유실 처리)
+	 * 그 외 DB 장애는 배치 전체를 반환해 재시도 (연결 대기 시간이 길어 한 건씩 시도하지 않음)
+	 */
+	private List<ChatMessage> flush(List<ChatMessage> batch) {
+		try {
+			chatMapper.insertMessages(batch);
+			flushedCount.addAndGet(batch.size());
+			batchCount.incrementAndGet();
+			log.debug("채팅 메시지 배치 저장 완료: size={}", batch.size());
+			return Collections.emptyList();
+		} catch (DataIntegrityViolationException e) {
+			log.error("채팅 메시지 배치 저장 실패, 개별 저장으로 재시도: size={}", batch.size(), e);
+			List<ChatMessage> failed = new ArrayList<>();
+			for (ChatMessage message : batch) {
+				try {
+					chatMapper.insertMessages(Collections.singletonList(message));
+					flushedCount.incrementAndGet();
+				} catch (DataIntegrityViolationException ex) {
+					failedCount.incrementAndGet();
+					log.error("채팅 메시지 저장 실패 (유실): messageId={}, challengeId={}",
+						message.getMessageId(), message.getChallengeId(), ex);
+				} catch (Exception ex) {
+					failed.add(message);
+				}
+			}
+			return failed;
+		} catch (Exception e) {
+			log.error("채팅 메시지 배치 저장 실패, 보관 후 재시도: size={}", batch.size(), e);
+			return new ArrayList<>(batch);
+		}
+	}
+
+	@Scheduled(fixedDelay = 60000)
+	public void reportStats() {
+		if (!enabled) {
+			return;
+		}
+		log.info("채팅 write-behind 상태: queueDepth={}, retryDepth={}, enqueued={}, flushed={}, batches={}, "
+				+ "fallback={}, failed={}", getQueueDepth(), getRetryDepth(), enqueuedCount.get(), flushedCount.get(),
+			batchCount.get(), fallbackCount.get(), failedCount.get());
+	}
+
+	/**
+	 * 종료 시 남은 메시지 모두 저장
+	 */
+	@PreDestroy
+	public void shutdown() {
+		if (!enabled) {
+			return;
+		}
+		running = false;
+		try {
+			flusher.join(TimeUnit.SECONDS.toMillis(10));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+
+		// flusher가 제시간에 끝나지 못했거나 재시도 중이던 메시지를 마지막으로 한 번 더 저장
+		List<ChatMessage> remaining = new ArrayList<>();
+		retryQueue.drainTo(remaining);
+		queue.drainTo(remaining);
+		for (int from = 0; from < remaining.size(); from += batchSize) {
+			List<ChatMessage> failed = flush(remaining.subList(from, Math.min(from + batchSize, remaining.size())));
+			if (!failed.isEmpty()) {
+				failedCount.addAndGet(failed.size());
+				log.error("종료 중 채팅 메시지 저장 실패 (유실): size={}", failed.size());
+			}
+		}
+		unregisterMBean();
+		log.info("채팅 write-behind 종료: flushed={}, failed={}", flushedCount.get(), failedCount.get());
+	}
+
+	private void registerMBean() {
+		try {
+			ManagementFactory.getPlatformMBeanServer().registerMBean(this, new ObjectName(MBEAN_NAME));
+		} catch (Exception e) {
+			log.warn("채팅 write-behind 지표 등록 실패: {}", e.getMessage());
+		}
+	}
+
+	private void unregisterMBean() {
+		try {
+			ManagementFactory.getPlatformMBeanServer().unregisterMBean(new ObjectName(MBEAN_NAME));
+		} catch (Exception e) {
+			log.warn("채팅 write-behind 지표 해제 실패: {}", e.getMessage());
+		}
+	}
+}
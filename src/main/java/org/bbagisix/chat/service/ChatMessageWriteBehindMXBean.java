@@ -0,0 +1,22 @@
+package org.bbagisix.chat.service;
+
+/**
+ * 채팅 write-behind 버퍼 모니터링 지표 (JMX: org.bbagisix.chat:type=ChatMessageWriteBehind)
+ */
+public interface ChatMessageWriteBehindMXBean {
+
+	// 저장 대기 중인 메시지 수
+	int getQueueDepth();
+
+	// 저장 실패로 DB 복구를 기다리는 메시지 수
+	int getRetryDepth();
+
+	long getEnqueuedCount();
+
+	long getFlushedCount();
+
+	long getFallbackCount();
+
+	// 다시 시도해도 저장할 수 없어 유실된 메시지 수
+	long getFailedCount();
+}
@@ -0,0 +1,122 @@
+package org.bbagisix.chat.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.bbagisix.chat.dto.PresenceDiffDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 채팅방 입장/퇴장/접속자 수 변경 병합기
+ * 짧은 구간 동안 방별 변경을 모아 순변화(presence diff) 프레임 하나로 발행
+ * 재접속처럼 같은 구간에 입장과 퇴장이 겹치면 서로 상쇄되어 발행되지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatPresenceCoalescer {
+
+	private final ChatPresenceRegistry presenceRegistry;
+	private final ChatMessagePublisher chatMessagePublisher;
+
+	@Value("${CHAT_PRESENCE_COALESCE_ENABLED:false}")
+	private boolean enabled;
+
+	private final Map<Long, PendingPresence> pending = new ConcurrentHashMap<>();
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	public void recordJoin(Long challengeId, Long userId, String userName) {
+		record(challengeId, userId, userName, 1);
+	}
+
+	public void recordLeave(Long challengeId, Long userId, String userName) {
+		record(challengeId, userId, userName, -1);
+	}
+
+	/**
+	 * 접속자 수만 바뀐 경우 (입장/퇴장 메시지 없이)
+	 */
+	public void recordCountChange(Long challengeId) {
+		pending.computeIfAbsent(challengeId, key -> new PendingPresence());
+	}
+
+	private void record(Long challengeId, Long userId, String userName, int delta) {
+		pending.compute(challengeId, (key, presence) -> {
+			PendingPresence target = presence != null ? presence : new PendingPresence();
+			target.apply(userId, userName, delta);
+			return target;
+		});
+	}
+
+	/**
+	 * 구간마다 방별 변경을 하나의 프레임으로 발행
+	 */
+	@Scheduled(fixedDelayString = "${CHAT_PRESENCE_COALESCE_WINDOW_MS:500}")
+	public void flush() {
+		if (!enabled || pending.isEmpty()) {
+			return;
+		}
+
+		for (Long challengeId : pending.keySet()) {
+			PendingPresence presence = pending.remove(challengeId);
+			if (presence == null) {
+				continue;
+			}
+
+			try {
+				PresenceDiffDTO diff = PresenceDiffDTO.builder()
+					.challengeId(challengeId)
+					.count(presenceRegistry.getCount(challengeId))
+					.joined(presence.collect(true))
+					.left(presence.collect(false))
+					.build();
+
+				chatMessagePublisher.publishPresence(challengeId, diff);
+				log.debug("접속 변경 병합 발행: challengeId={}, count={}, joined={}, left={}",
+					challengeId, diff.getCount(), diff.getJoined().size(), diff.getLeft().size());
+			} catch (Exception e) {
+				log.error("접속 변경 발행 실패 (무시하고 계속): challengeId={}", challengeId, e);
+			}
+		}
+	}
+
+	/**
+	 * 방별 미발행 변경 (compute 블록 안에서만 수정)
+	 */
+	private static class PendingPresence {
+		private final Map<Long, Integer> netByUser = new LinkedHashMap<>();
+		private final Map<Long, String> userNames = new LinkedHashMap<>();
+
+		void apply(Long userId, String userName, int delta) {
+			if (userId == null) {
+				return;
+			}
+			netByUser.merge(userId, delta, Integer::sum);
+			if (userName != null) {
+				userNames.put(userId, userName);
+			}
+		}
+
+		List<PresenceDiffDTO.PresenceUser> collect(boolean joined) {
+			List<PresenceDiffDTO.PresenceUser> users = new ArrayList<>();
+			netByUser.forEach((userId, net) -> {
+				if (joined ? net > 0 : net < 0) {
+					users.add(new PresenceDiffDTO.PresenceUser(userId,
+						userNames.getOrDefault(userId, "사용자" + userId)));
+				}
+			});
+			return users;
+		}
+	}
+}
@@ -0,0 +1,194 @@
+package org.bbagisix.chat.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 클러스터 전체 채팅방 접속자 레지스트리 (Redis)
+ * chat:presence:{challengeId} 해시에 노드별 접속자 수를 저장하고 합산해 전체 접속자 수를 계산
+ * 노드는 chat:presence:nodes sorted set에 하트비트를 남기며, 하트비트가 끊긴 노드의 값은 조회 시 제거
+ * 각 노드는 하트비트마다 자기 접속자 수를 다시 기록해 잘못 정리되거나 반영에 실패한 값을 복구하고,
+ * 이전에 기록했지만 지금은 접속자가 없는 방의 값은 지워 하트비트와 감소가 겹쳐 남은 값을 정리
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatPresenceRegistry {
+
+	private static final String PRESENCE_KEY_PREFIX = "chat:presence:";
+	private static final String NODES_KEY = "chat:presence:nodes";
+	private static final long HEARTBEAT_INTERVAL_MS = 10000;
+	private static final long NODE_TTL_MS = 30000;        // 하트비트 3회 누락 시 죽은 노드로 간주
+
+	// 감소 후 0 이하가 되면 필드 삭제 (감소와 삭제를 원자적으로 처리)
+	private static final RedisScript<Long> DECREMENT_SCRIPT = new DefaultRedisScript<>(
+		"local v = redis.call('HINCRBY', KEYS[1], ARGV[1], -1) "
+			+ "if v <= 0 then redis.call('HDEL', KEYS[1], ARGV[1]) end "
+			+ "return v", Long.class);
+
+	private final StringRedisTemplate stringRedisTemplate;
+
+	private final String nodeId = UUID.randomUUID().toString();
+	private final Map<Long, Integer> localCounts = new ConcurrentHashMap<>();    // 이 노드의 접속자 수
+	private final Set<Long> publishedRooms = ConcurrentHashMap.newKeySet();    // 하트비트로 Redis에 기록한 방
+	private volatile Set<String> aliveNodes = Collections.emptySet();
+
+	@PostConstruct
+	public void initialize() {
+		heartbeat();
+		log.info("채팅 접속자 레지스트리 초기화: nodeId={}", nodeId);
+	}
+
+	/**
+	 * 이 노드의 접속자 1명 증가
+	 */
+	public void increment(Long challengeId) {
+		localCounts.merge(challengeId, 1, Integer::sum);
+		try {
+			stringRedisTemplate.opsForHash().increment(presenceKey(challengeId), nodeId, 1);
+		} catch (Exception e) {
+			log.error("접속자 수 Redis 반영 실패: challengeId={}", challengeId, e);
+		}
+	}
+
+	/**
+	 * 이 노드의 접속자 1명 감소
+	 */
+	public void decrement(Long challengeId) {
+		AtomicBoolean decremented = new AtomicBoolean(false);
+		localCounts.computeIfPresent(challengeId, (key, count) -> {    // 맵 갱신만 하고 I/O는 밖에서 처리
+			decremented.set(true);
+			return count > 1 ? count - 1 : null;
+		});
+
+		if (decremented.get()) {
+			try {
+				stringRedisTemplate.execute(DECREMENT_SCRIPT,
+					Collections.singletonList(presenceKey(challengeId)), nodeId);
+			} catch (Exception e) {
+				log.error("접속자 수 Redis 반영 실패: challengeId={}", challengeId, e);
+			}
+		}
+	}
+
+	/**
+	 * 클러스터 전체 접속자 수 (살아 있는 노드 값만 합산)
+	 */
+	public int getCount(Long challengeId) {
+		try {
+			String key = presenceKey(challengeId);
+			Map<Object, Object> entries = stringRedisTemplate.opsForHash().entries(key);
+			Set<String> alive = aliveNodes;
+
+			int total = 0;
+			List<Object> deadNodes = new ArrayList<>();
+			long staleBefore = System.currentTimeMillis() - NODE_TTL_MS;
+			for (Map.Entry<Object, Object> entry : entries.entrySet()) {
+				String node = (String)entry.getKey();
+				// 목록 캐시는 최대 하트비트 간격만큼 늦으므로, 캐시에 없는 노드는 지금 시점의 하트비트로 확인
+				if (nodeId.equals(node) || alive.contains(node) || !isStale(node, staleBefore)) {
+					total += Integer.parseInt((String)entry.getValue());
+				} else {
+					deadNodes.add(node);
+				}
+			}
+
+			if (!deadNodes.isEmpty()) {
+				stringRedisTemplate.opsForHash().delete(key, deadNodes.toArray());
+				log.info("죽은 노드의 접속자 정보 제거: challengeId={}, nodes={}", challengeId, deadNodes);
+			}
+			return Math.max(0, total);
+
+		} catch (Exception e) {
+			log.error("클러스터 접속자 수 조회 실패, 로컬 값 사용: challengeId={}", challengeId, e);
+			return localCounts.getOrDefault(challengeId, 0);
+		}
+	}
+
+	/**
+	 * 노드 하트비트 갱신 및 살아 있는 노드 목록 캐시
+	 */
+	@Scheduled(fixedDelay = HEARTBEAT_INTERVAL_MS)
+	public void heartbeat() {
+		try {
+			long now = System.currentTimeMillis();
+			Boolean added = stringRedisTemplate.opsForZSet().add(NODES_KEY, nodeId, now);
+			stringRedisTemplate.opsForZSet().removeRangeByScore(NODES_KEY, 0, now - NODE_TTL_MS);
+
+			Set<String> alive = stringRedisTemplate.opsForZSet()
+				.rangeByScore(NODES_KEY, now - NODE_TTL_MS, Double.MAX_VALUE);
+			aliveNodes = alive != null ? alive : Collections.emptySet();
+
+			// 다른 노드가 이 노드 값을 지웠거나 증감 반영에 실패했어도 매 하트비트마다 로컬 값으로 맞춤
+			// 기록 직전에 마지막 접속자가 나갔다면 감소 스크립트의 삭제 뒤에 옛 값을 다시 쓸 수 있으므로,
+			// 기록했던 방 중 로컬에 없는 방은 다음 하트비트에서 지움
+			Set<Long> rooms = new HashSet<>(publishedRooms);
+			rooms.addAll(localCounts.keySet());
+			for (Long challengeId : rooms) {
+				Integer count = localCounts.get(challengeId);
+				if (count != null) {
+					publishedRooms.add(challengeId);
+					stringRedisTemplate.opsForHash().put(presenceKey(challengeId), nodeId, String.valueOf(count));
+				} else {
+					stringRedisTemplate.opsForHash().delete(presenceKey(challengeId), nodeId);
+					publishedRooms.remove(challengeId);
+				}
+			}
+			if (Boolean.TRUE.equals(added) && !localCounts.isEmpty()) {
+				log.warn("노드 접속자 정보 복구: nodeId={}, rooms={}", nodeId, localCounts.size());
+			}
+		} catch (Exception e) {
+			log.error("접속자 레지스트리 하트비트 실패: nodeId={}", nodeId, e);
+		}
+	}
+
+	/**
+	 * 종료 시 이 노드의 접속자 정보 제거
+	 */
+	@PreDestroy
+	public void shutdown() {
+		try {
+			stringRedisTemplate.opsForZSet().remove(NODES_KEY, nodeId);
+			Set<Long> rooms = new HashSet<>(publishedRooms);
+			rooms.addAll(localCounts.keySet());
+			rooms.forEach(challengeId ->
+				stringRedisTemplate.opsForHash().delete(presenceKey(challengeId), nodeId));
+			log.info("채팅 접속자 레지스트리 종료: nodeId={}", nodeId);
+		} catch (Exception e) {
+			log.warn("접속자 정보 정리 실패 (TTL로 정리됨): nodeId={}", nodeId, e);
+		}
+	}
+
+	// 하트비트가 없거나 (만료로 제거됨) 유효 시간보다 오래된 노드
+	private boolean isStale(String node, long staleBefore) {
+		Double score = stringRedisTemplate.opsForZSet().score(NODES_KEY, node);
+		return score == null || score < staleBefore;
+	}
+
+	public String getNodeId() {
+		return nodeId;
+	}
+
+	private String presenceKey(Long challengeId) {
+		return PRESENCE_KEY_PREFIX + challengeId;
+	}
+}
@@ -0,0 +1,221 @@
+package org.bbagisix.chat.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.bbagisix.chat.dto.ChatHistoryDTO;
+import org.bbagisix.chat.dto.ChatMessageDTO;
+import org.bbagisix.chat.mapper.ChatMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 채팅방별 최근 메시지 버퍼 (Redis)
+ * chat:recent:{challengeId} sorted set에 message_id를 score로 최근 N건만 유지
+ * 발행 시점에 추가하고, 버퍼가 비어 있으면 DB에서 재구성 (score 기준이라 동시 발행과 섞여도 순서 유지)
+ * 같은 message_id는 한 항목만 유지 (추가 시 같은 score의 기존 항목을 교체)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatRecentMessageCache {
+
+	private static final String RECENT_KEY_PREFIX = "chat:recent:";
+	private static final String LOADED_SUFFIX = ":loaded";        // DB 재구성 완료 표시
+	private static final long BUFFER_TTL_HOURS = 24;
+	private static final long LOADED_TTL_HOURS = 6;            // 버퍼보다 먼저 만료되어 주기적으로 재구성
+
+	// 같은 message_id(score)의 기존 항목을 지우고 추가 (ARGV: score, 값 쌍 ... , depth, TTL 초)
+	// 실시간 발행본과 DB 재구성본은 JSON이 달라 ZADD만으로는 같은 메시지가 두 건 남음
+	private static final RedisScript<Long> REPLACE_SCRIPT = new DefaultRedisScript<>(
+		"local n = #ARGV - 2 "
+			+ "for i = 1, n, 2 do "
+			+ "redis.call('ZREMRANGEBYSCORE', KEYS[1], ARGV[i], ARGV[i]) "
+			+ "redis.call('ZADD', KEYS[1], ARGV[i], ARGV[i + 1]) "
+			+ "end "
+			+ "redis.call('ZREMRANGEBYRANK', KEYS[1], 0, -(tonumber(ARGV[n + 1]) + 1)) "
+			+ "redis.call('EXPIRE', KEYS[1], ARGV[n + 2]) "
+			+ "return redis.call('ZCARD', KEYS[1])", Long.class);
+
+	private final StringRedisTemplate stringRedisTemplate;
+	private final ChatMapper chatMapper;
+	private final ObjectMapper objectMapper = new ObjectMapper()
+		.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+		.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false)
+		.findAndRegisterModules();
+
+	@Value("${CHAT_RECENT_BUFFER_DEPTH:100}")
+	private int depth;
+
+	private final AtomicLong hitCount = new AtomicLong();
+	private final AtomicLong missCount = new AtomicLong();
+	private final AtomicLong fallbackCount = new AtomicLong();
+
+	public boolean isEnabled() {
+		return depth > 0;
+	}
+
+	public int getDepth() {
+		return depth;
+	}
+
+	/**
+	 * 발행된 메시지를 버퍼에 추가 (DB에 저장된 메시지만 대상)
+	 */
+	public void append(Long challengeId, ChatMessageDTO message) {
+		if (!isEnabled() || message.getMessageId() == null) {
+			return;
+		}
+
+		try {
+			List<String> args = new ArrayList<>(4);
+			addMember(args, toCanonical(message));
+			replace(challengeId, args);
+		} catch (Exception e) {
+			log.warn("최근 메시지 버퍼 추가 실패 (무시하고 계속): challengeId={}, messageId={}",
+				challengeId, message.getMessageId(), e);
+		}
+	}
+
+	/**
+	 * 최근 메시지 페이지 조회 (최신순)
+	 * 버퍼만으로 요청 범위를 채울 수 없으면 null 반환 -> 호출자가 DB 조회
+	 */
+	public List<ChatMessageDTO> getRecentMessages(Long challengeId, LocalDateTime since, int pageSize) {
+		if (!isEnabled() || pageSize > depth) {
+			fallbackCount.incrementAndGet();
+			return null;
+		}
+
+		try {
+			String key = recentKey(challengeId);
+			if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(key + LOADED_SUFFIX))) {
+				missCount.incrementAndGet();
+				rebuild(challengeId);
+			}
+
+			Set<String> members = stringRedisTemplate.opsForZSet().reverseRange(key, 0, depth - 1);
+			if (members == null) {
+				fallbackCount.incrementAndGet();
+				return null;
+			}
+
+			List<ChatMessageDTO> page = new ArrayList<>(pageSize);
+			Set<Long> seenIds = new HashSet<>();
+			boolean reachedSince = false;
+
+			for (String member : members) {
+				ChatMessageDTO message = objectMapper.readValue(member, ChatMessageDTO.class);
+				if (!seenIds.add(message.getMessageId())) {
+					continue;    // 재구성과 발행이 겹쳐 생긴 중복
+				}
+				if (since != null && message.getSentAt() != null && message.getSentAt().isBefore(since)) {
+					reachedSince = true;
+					break;
+				}
+				page.add(message);
+				if (page.size() == pageSize) {
+					hitCount.incrementAndGet();
+					return page;
+				}
+			}
+
+			// 버퍼가 가득 찼는데 참여 시점까지 닿지 못했다면 더 오래된 메시지가 DB에만 있음
+			if (!reachedSince && members.size() >= depth) {
+				fallbackCount.incrementAndGet();
+				return null;
+			}
+			hitCount.incrementAndGet();
+			return page;
+
+		} catch (Exception e) {
+			log.warn("최근 메시지 버퍼 조회 실패, DB 조회로 대체: challengeId={}", challengeId, e);
+			fallbackCount.incrementAndGet();
+			return null;
+		}
+	}
+
+	/**
+	 * DB의 최근 메시지로 버퍼 재구성 (기존 항목과 병합)
+	 */
+	private void rebuild(Long challengeId) throws Exception {
+		List<ChatHistoryDTO> recent = chatMapper.selectChatHistoryPage(challengeId, null, null, depth);
+
+		List<String> args = new ArrayList<>(recent.size() * 2 + 2);
+		for (ChatHistoryDTO history : recent) {
+			addMember(args, toMessage(history));
+		}
+		replace(challengeId, args);
+		stringRedisTemplate.opsForValue()
+			.set(recentKey(challengeId) + LOADED_SUFFIX, "1", LOADED_TTL_HOURS, TimeUnit.HOURS);
+
+		log.debug("최근 메시지 버퍼 재구성: challengeId={}, size={}", challengeId, recent.size());
+	}
+
+	@Scheduled(fixedDelay = 60000)
+	public void reportStats() {
+		if (!isEnabled()) {
+			return;
+		}
+		log.info("최근 메시지 버퍼 상태: hit={}, miss={}, fallback={}",
+			hitCount.get(), missCount.get(), fallbackCount.get());
+	}
+
+	private void addMember(List<String> args, ChatMessageDTO message) throws Exception {
+		args.add(String.valueOf(message.getMessageId()));
+		args.add(objectMapper.writeValueAsString(message));
+	}
+
+	private void replace(Long challengeId, List<String> args) {
+		args.add(String.valueOf(depth));
+		args.add(String.valueOf(TimeUnit.HOURS.toSeconds(BUFFER_TTL_HOURS)));
+		stringRedisTemplate.execute(REPLACE_SCRIPT, Collections.singletonList(recentKey(challengeId)),
+			args.toArray());
+	}
+
+	// DB 재구성본과 같은 필드만 저장 (스트림 ID는 전송용이라 제외)
+	private ChatMessageDTO toCanonical(ChatMessageDTO message) {
+		return ChatMessageDTO.builder()
+			.messageId(message.getMessageId())
+			.challengeId(message.getChallengeId())
+			.userId(message.getUserId())
+			.message(message.getMessage())
+			.sentAt(message.getSentAt())
+			.messageType(message.getMessageType())
+			.userName(message.getUserName())
+			.build();
+	}
+
+	private ChatMessageDTO toMessage(ChatHistoryDTO history) {
+		return ChatMessageDTO.builder()
+			.messageId(history.getMessageId())
+			.challengeId(history.getChallengeId())
+			.userId(history.getUserId())
+			.message(history.getMessage())
+			.sentAt(history.getSentAt())
+			.messageType(history.getMessageType())
+			.userName(history.getUserName())
+			.build();
+	}
+
+	private String recentKey(Long challengeId) {
+		return RECENT_KEY_PREFIX + challengeId;
+	}
+}
@@ -31,6 +31,12 @@ public class ChatService {
 	private final ChatMessageConverter converter;
 	private final ChatMessagePublisher chatMessagePublisher;
 	private final CategoryMapper categoryMapper;
+	private final ChatMessageWriteBehindBuffer writeBehindBuffer;
+	private final ChatMessageIdGenerator messageIdGenerator;
+	private final ChatRecentMessageCache recentMessageCache;
+	private final ChatPresenceCoalescer presenceCoalescer;
+
+	private static final int MAX_HISTORY_PAGE_SIZE = 100;    // 이력 조회 1회 최대 건수
 
 	/**
 	 * 채팅 메시지 저장
@@ -47,6 +53,11 @@ public class ChatService {
 			// 2. 비즈니스 로직 검증
 			validateMessage(vo);
 
+			// write-behind 모드: ID 선발급 후 바로 발행, DB 저장은 배치로 처리
+			if (writeBehindBuffer.isEnabled()) {
+				return saveMessageWriteBehind(vo);
+			}
+
 			// 3. VO -> Entity 변환
 			ChatMessage entity = converter.toEntity(vo);
 
@@ -66,12 +77,7 @@ public class ChatService {
 			ChatMessageDTO resultDTO = converter.toDTO(savedEntity);
 
 			// 7. Redis pub/sub로 메시지 발행 (새로 추가된 부분)
-			try {
-				chatMessagePublisher.publishMessage(dto.getChallengeId(), resultDTO);
-				log.debug("메시지 Redis 발행 완료: messageId={}", resultDTO.getMessageId());
-			} catch (Exception e) {
-				log.error("Redis 메시지 발행 실패 (DB 저장은 성공): messageId={}", resultDTO.getMessageId(), e);
-			}
+			publishSavedMessage(resultDTO);
 			log.debug("메시지 저장 완료: messageId={}", resultDTO.getMessageId());
 			return resultDTO;
 
@@ -85,10 +91,40 @@ public class ChatService {
 	}
 
 	/**
-	 * 채팅 이력 조회 (사용자가 참여한 시점 이후)
+	 * write-behind 메시지 저장
+	 * DB 조회 없이 응답을 만들고, INSERT는 버퍼에서 multi-row 배치로 처리
+	 */
+	private ChatMessageDTO saveMessageWriteBehind(ChatMessageVO vo) {
+		String userName = vo.getUserName() != null ? vo.getUserName() : getUserName(vo.getUserId());
+		ChatMessage entity = converter.toEntity(vo, messageIdGenerator.nextId(), userName);
+
+		writeBehindBuffer.enqueue(entity);
+
+		ChatMessageDTO resultDTO = converter.toDTO(entity);
+		publishSavedMessage(resultDTO);
+		log.debug("메시지 저장 예약 완료: messageId={}", resultDTO.getMessageId());
+		return resultDTO;
+	}
+
+	/**
+	 * 저장된 메시지 Redis 발행 (발행 실패는 저장 결과에 영향 없음)
+	 */
+	private void publishSavedMessage(ChatMessageDTO resultDTO) {
+		try {
+			chatMessagePublisher.publishMessage(resultDTO.getChallengeId(), resultDTO);
+			log.debug("메시지 Redis 발행 완료: messageId={}", resultDTO.getMessageId());
+		} catch (Exception e) {
+			log.error("Redis 메시지 발행 실패 (DB 저장은 성공): messageId={}", resultDTO.getMessageId(), e);
+		}
+	}
+
+	/**
+	 * 채팅 이력 조회 (사용자가 참여한 시점 이후, 최신순)
+	 * beforeMessageId가 있으면 해당 메시지보다 이전 메시지 페이지를 조회
 	 */
-	public List<ChatMessageDTO> getChatHistory(Long challengeId, Long userId, int limit) {
-		log.debug("채팅 이력 조회: challengeId={}, userId={}, limit={}", challengeId, userId, limit);
+	public List<ChatMessageDTO> getChatHistory(Long challengeId, Long userId, Long beforeMessageId, int limit) {
+		log.debug("채팅 이력 조회: challengeId={}, userId={}, before={}, limit={}",
+			challengeId, userId, beforeMessageId, limit);
 
 		if (challengeId == null) {
 			throw new BusinessException(ErrorCode.CHALLENGE_ID_REQUIRED);
@@ -98,17 +134,29 @@ public class ChatService {
 		}
 
 		try {
-			// 1. 먼저 사용자가 해당 챌린지에 참여 중인지 확인
-			if (!isUserParticipatingInChallenge(challengeId, userId)) {
+			// 1. 참여 상태와 참여 시작일을 한 번에 조회
+			UserChallengeInfoDTO challengeInfo = chatMapper.selectUserChallengeStatus(challengeId, userId);
+			if (challengeInfo == null || !challengeInfo.canAccessChatRoom()) {
 				throw new BusinessException(ErrorCode.CHALLENGE_ACCESS_DENIED);
 			}
 
-			// 2. 채팅 이력 조회
-			List<ChatHistoryDTO> historyList = chatMapper.selectChatHistoryByUserParticipation(
-				challengeId, userId, limit
+			int pageSize = Math.max(1, Math.min(limit, MAX_HISTORY_PAGE_SIZE));
+
+			// 2. 첫 페이지는 Redis 최근 메시지 버퍼에서 조회
+			if (beforeMessageId == null) {
+				List<ChatMessageDTO> recent = recentMessageCache.getRecentMessages(
+					challengeId, challengeInfo.getStartDate(), pageSize);
+				if (recent != null) {
+					return recent;
+				}
+			}
+
+			// 3. 버퍼로 채울 수 없는 페이지는 DB 조회 (challenge_id, message_id 인덱스 기반 keyset 페이징)
+			List<ChatHistoryDTO> historyList = chatMapper.selectChatHistoryPage(
+				challengeId, challengeInfo.getStartDate(), beforeMessageId, pageSize
 			);
 
-			// 3. ChatHistoryDTO를 ChatMessageDTO로 변환
+			// 4. ChatHistoryDTO를 ChatMessageDTO로 변환
 			return historyList.stream()
 				.map(this::convertHistoryToMessage)
 				.collect(Collectors.toList());
@@ -245,6 +293,12 @@ public class ChatService {
 				.sentAt(systemVO.getSentAt())
 				.build();
 
+			// 병합 모드: 입장 메시지 대신 presence diff 프레임으로 발행
+			if (presenceCoalescer.isEnabled()) {
+				presenceCoalescer.recordJoin(challengeId, userId, userName);
+				return resultDTO;
+			}
+
 			// Redis pub/sub로 입장 메시지 발행
 			try {
 				chatMessagePublisher.publishMessage(challengeId, resultDTO);
@@ -291,6 +345,12 @@ public class ChatService {
 				.sentAt(systemVO.getSentAt())
 				.build();
 
+			// 병합 모드: 퇴장 메시지 대신 presence diff 프레임으로 발행
+			if (presenceCoalescer.isEnabled()) {
+				presenceCoalescer.recordLeave(challengeId, userId, displayName);
+				return resultDTO;
+			}
+
 			// Redis pub/sub로 퇴장 메시지 발행
 			try {
 				chatMessagePublisher.publishMessage(challengeId, resultDTO);
@@ -1,8 +1,5 @@
 package org.bbagisix.chat.service;
 
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 
@@ -17,56 +14,62 @@ public class ChatSessionService {
 	private final SimpMessagingTemplate messagingTemplate;
 	private final ChatMessagePublisher chatMessagePublisher;
 
-	// challengeId 별 현재 접속자 수 저장 (메모리 기반)
-	private final Map<Long, Integer> challengeParticipantCount = new ConcurrentHashMap<>();
+	// 클러스터 전체 접속자 수 (Redis 기반, 노드별 집계)
+	private final ChatPresenceRegistry presenceRegistry;
+	private final ChatPresenceCoalescer presenceCoalescer;
 
 	/**
 	 * 사용자 입장 - 접속자 수 증가
 	 */
 	public void addParticipant(Long challengeId) {
-		challengeParticipantCount.merge(challengeId, 1, Integer::sum);
-		int currentCount = challengeParticipantCount.get(challengeId);
-
-		log.info("챌린지 {} 접속자 증가: {} 명", challengeId, currentCount);
+		presenceRegistry.increment(challengeId);
 
-		// Redis pub/sub로 접속자 수 브로드캐스트
-		try {
-			chatMessagePublisher.publishParticipantCount(challengeId, currentCount);
-			log.debug("접속자 수 Redis 발행 완료: challengeId={}, count={}", challengeId, currentCount);
-		} catch (Exception e) {
-			log.error("접속자 수 Redis 발행 실패 (무시하고 계속): challengeId={}, count={}",
-				challengeId, currentCount, e);
-			// Redis 발행 실패해도 서비스는 계속 동작
+		// 병합 모드에서는 구간 종료 시 한 번만 발행
+		if (presenceCoalescer.isEnabled()) {
+			presenceCoalescer.recordCountChange(challengeId);
+			return;
 		}
+
+		int currentCount = presenceRegistry.getCount(challengeId);
+		log.info("챌린지 {} 접속자 증가: {} 명", challengeId, currentCount);
+		publishCount(challengeId, currentCount);
 	}
 
 	/**
 	 * 사용자 퇴장 - 접속자 수 감소
 	 */
 	public void removeParticipant(Long challengeId) {
-		challengeParticipantCount.computeIfPresent(challengeId, (key, count) -> {    // challengeId가 존재할 때만 실행
-			int newCount = Math.max(0, count - 1);    // 음수 방지 (비정상적 퇴장 방지)
-			log.info("챌린지 {} 접속자 감소: {} 명", challengeId, newCount);
+		presenceRegistry.decrement(challengeId);
 
-			// Redis pub/sub로 접속자 수 브로드캐스트
-			try {
-				chatMessagePublisher.publishParticipantCount(challengeId, newCount);
-				log.debug("접속자 수 Redis 발행 완료: challengeId={}, count={}", challengeId, newCount);
-			} catch (Exception e) {
-				log.error("접속자 수 Redis 발행 실패 (무시하고 계속): challengeId={}, count={}",
-					challengeId, newCount, e);
-				// Redis 발행 실패해도 서비스는 계속 동작
-			}
+		if (presenceCoalescer.isEnabled()) {
+			presenceCoalescer.recordCountChange(challengeId);
+			return;
+		}
 
-			return newCount == 0 ? null : newCount;        // 0이면 맵에서 제거 -> 메모리 효율성
-		});
+		int currentCount = presenceRegistry.getCount(challengeId);
+		log.info("챌린지 {} 접속자 감소: {} 명", challengeId, currentCount);
+		publishCount(challengeId, currentCount);
 	}
 
 	/**
-	 * 현재 접속자 수 조회
+	 * 현재 접속자 수 조회 (클러스터 전체)
 	 */
 	public int getParticipantCount(Long challengeId) {
-		return challengeParticipantCount.getOrDefault(challengeId, 0);
+		return presenceRegistry.getCount(challengeId);
+	}
+
+	/**
+	 * Redis pub/sub로 접속자 수 브로드캐스트
+	 */
+	private void publishCount(Long challengeId, int currentCount) {
+		try {
+			chatMessagePublisher.publishParticipantCount(challengeId, currentCount);
+			log.debug("접속자 수 Redis 발행 완료: challengeId={}, count={}", challengeId, currentCount);
+		} catch (Exception e) {
+			log.error("접속자 수 Redis 발행 실패 (무시하고 계속): challengeId={}, count={}",
+				challengeId, currentCount, e);
+			// Redis 발행 실패해도 서비스는 계속 동작
+		}
 	}
 
 	/**
@@ -0,0 +1,192 @@
+package org.bbagisix.chat.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.bbagisix.chat.dto.ChatMessageDTO;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.RedisZSetCommands.Limit;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Redis Streams 기반 채팅 메시지 보관 및 재접속 시 누락분 재전송
+ * 채팅방별 chat:stream:{challengeId} 스트림에 MAXLEN 만큼 보관하고, 실시간 전달은 기존 pub/sub 사용
+ * 클라이언트가 SUBSCRIBE 시 last-stream-id 헤더로 마지막 수신 ID를 보내면 그 이후 메시지만 해당 구독으로 재전송
+ * 재전송은 실시간 전달이 이미 시작된 구독에 보내므로 중복/순서 역전이 생길 수 있음 (클라이언트가 streamId로 정리)
+ */
+@Slf4j
+@Component
+public class ChatStreamTransport {
+
+	public static final String LAST_STREAM_ID_HEADER = "last-stream-id";
+
+	private static final String STREAM_KEY_PREFIX = "chat:stream:";
+	private static final String CHAT_TOPIC_PREFIX = "/topic/chat/";
+	private static final String PAYLOAD_FIELD = "payload";
+	private static final MimeType JSON_UTF8 = new MimeType("application", "json", StandardCharsets.UTF_8);
+
+	private final StringRedisTemplate stringRedisTemplate;
+	private final MessageChannel clientOutboundChannel;
+	private final ObjectMapper objectMapper = new ObjectMapper()
+		.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+		.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false)
+		.findAndRegisterModules();
+
+	@Value("${CHAT_STREAM_ENABLED:false}")
+	private boolean enabled;
+	@Value("${CHAT_STREAM_MAXLEN:1000}")
+	private long maxLength;
+	@Value("${CHAT_STREAM_REPLAY_LIMIT:500}")
+	private long replayLimit;
+
+	public ChatStreamTransport(StringRedisTemplate stringRedisTemplate,
+		@Qualifier("clientOutboundChannel") MessageChannel clientOutboundChannel) {
+		this.stringRedisTemplate = stringRedisTemplate;
+		this.clientOutboundChannel = clientOutboundChannel;
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * 메시지를 채팅방 스트림에 추가하고 스트림 ID 반환
+	 */
+	public String append(Long challengeId, ChatMessageDTO message) throws Exception {
+		String key = streamKey(challengeId);
+		String payload = objectMapper.writeValueAsString(message);
+
+		RecordId recordId = stringRedisTemplate.opsForStream()
+			.add(StreamRecords.newRecord().in(key).ofMap(Collections.singletonMap(PAYLOAD_FIELD, payload)));
+		stringRedisTemplate.opsForStream().trim(key, maxLength, true);    // 근사 trim (MAXLEN ~)
+
+		return recordId != null ? recordId.getValue() : null;
+	}
+
+	/**
+	 * SUBSCRIBE 시 마지막 수신 ID 이후 메시지 재전송
+	 */
+	@EventListener
+	public void handleSubscribe(SessionSubscribeEvent event) {
+		if (!enabled) {
+			return;
+		}
+
+		StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+		String lastStreamId = accessor.getFirstNativeHeader(LAST_STREAM_ID_HEADER);
+		String destination = accessor.getDestination();
+		if (lastStreamId == null || destination == null || !destination.startsWith(CHAT_TOPIC_PREFIX)) {
+			return;
+		}
+
+		try {
+			Long challengeId = Long.parseLong(destination.substring(CHAT_TOPIC_PREFIX.length()));
+			replay(challengeId, RecordId.of(lastStreamId), accessor.getSessionId(), accessor.getSubscriptionId(),
+				destination);
+		} catch (Exception e) {
+			log.warn("채팅 스트림 재전송 실패: destination={}, lastStreamId={}", destination, lastStreamId, e);
+		}
+	}
+
+	private void replay(Long challengeId, RecordId lastId, String sessionId, String subscriptionId,
+		String destination) throws Exception {
+		String key = streamKey(challengeId);
+
+		// 마지막 수신 ID가 이미 trim 되었다면 누락분을 보장할 수 없음
+		List<MapRecord<String, Object, Object>> oldest = stringRedisTemplate.opsForStream()
+			.range(key, Range.unbounded(), Limit.limit().count(1));
+		if (oldest == null || oldest.isEmpty()) {
+			return;
+		}
+		if (compare(oldest.get(0).getId(), lastId) > 0) {
+			requestResync(challengeId, lastId, sessionId, subscriptionId, destination);
+			return;
+		}
+
+		// 닫힌 구간이라 마지막 수신 메시지가 포함될 수 있으므로 한도 + 2건까지 읽어 한도 초과 여부 판단
+		Range<String> gap = Range.rightUnbounded(Range.Bound.inclusive(lastId.getValue()));
+		List<MapRecord<String, Object, Object>> records = stringRedisTemplate.opsForStream()
+			.range(key, gap, Limit.limit().count((int)replayLimit + 2));
+		if (records == null) {
+			return;
+		}
+		List<MapRecord<String, Object, Object>> missed = records.stream()
+			.filter(record -> !record.getId().equals(lastId))
+			.collect(Collectors.toList());
+
+		// 누락분이 한도보다 많으면 일부만 보내지 않고 이력 재조회 요청
+		if (missed.size() > replayLimit) {
+			requestResync(challengeId, lastId, sessionId, subscriptionId, destination);
+			return;
+		}
+
+		for (MapRecord<String, Object, Object> record : missed) {
+			ChatMessageDTO message = objectMapper.readValue((String)record.getValue().get(PAYLOAD_FIELD),
+				ChatMessageDTO.class);
+			message.setStreamId(record.getId().getValue());
+			sendToSubscription(sessionId, subscriptionId, destination, objectMapper.writeValueAsBytes(message));
+		}
+		log.debug("채팅 스트림 재전송 완료: challengeId={}, sessionId={}, count={}", challengeId, sessionId,
+			missed.size());
+	}
+
+	/**
+	 * 누락분을 보장할 수 없을 때 (trim 되었거나 재전송 한도 초과) 클라이언트에 이력 재조회 요청
+	 */
+	private void requestResync(Long challengeId, RecordId lastId, String sessionId, String subscriptionId,
+		String destination) throws Exception {
+		sendToSubscription(sessionId, subscriptionId, destination, objectMapper.writeValueAsBytes(Map.of(
+			"type", "RESYNC_REQUIRED",
+			"challengeId", challengeId
+		)));
+		log.info("채팅 스트림 재전송 범위 초과, 재동기화 요청: challengeId={}, lastId={}", challengeId, lastId);
+	}
+
+	/**
+	 * 브로커를 거치지 않고 특정 세션의 구독에만 전송
+	 */
+	private void sendToSubscription(String sessionId, String subscriptionId, String destination, byte[] payload) {
+		SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+		accessor.setSessionId(sessionId);
+		accessor.setSubscriptionId(subscriptionId);
+		accessor.setDestination(destination);
+		accessor.setContentType(JSON_UTF8);
+		accessor.setLeaveMutable(true);
+		clientOutboundChannel.send(MessageBuilder.createMessage(payload, accessor.getMessageHeaders()));
+	}
+
+	/**
+	 * 스트림 ID 비교 ("ms-seq")
+	 */
+	private int compare(RecordId a, RecordId b) {
+		int byTime = Long.compare(a.getTimestamp(), b.getTimestamp());
+		return byTime != 0 ? byTime : Long.compare(a.getSequence(), b.getSequence());
+	}
+
+	private String streamKey(Long challengeId) {
+		return STREAM_KEY_PREFIX + challengeId;
+	}
+}
@@ -0,0 +1,41 @@
+package org.bbagisix.common.codef.dto;
+
+import java.util.Date;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 전체 main 계좌 거래내역 동기화 실행 결과
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class CodefSyncReportDTO {
+	private Date startedAt;
+	private long elapsedMs;
+	private int concurrency;
+	private int total;            // 처리한 계좌 수
+	private int succeeded;
+	private int failed;
+	private int inserted;         // 새로 저장한 거래내역 수
+	private boolean completed;    // 계좌 조회 중단/시간 초과 없이 끝까지 처리
+	private List<Failure> failures;    // 실패 계좌 (최대 MAX_REPORTED_FAILURES건)
+
+	@Getter
+	@Builder
+	@NoArgsConstructor
+	@AllArgsConstructor
+	@ToString
+	public static class Failure {
+		private Long assetId;
+		private Long userId;
+		private String message;
+	}
+}
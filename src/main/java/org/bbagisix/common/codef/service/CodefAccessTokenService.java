@@ -1,21 +1,25 @@
 package org.bbagisix.common.codef.service;
 
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.io.OutputStream;
-import java.net.HttpURLConnection;
-import java.net.URL;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
+import javax.annotation.PostConstruct;
+
+import org.apache.http.HttpStatus;
+import org.apache.http.entity.ContentType;
 import org.bbagisix.common.codef.domain.CodefAccessTokenVO;
 import org.bbagisix.common.codef.mapper.CodefAccessTokenMapper;
 import org.bbagisix.common.exception.BusinessException;
 import org.bbagisix.common.exception.ErrorCode;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import com.fasterxml.jackson.core.type.TypeReference;
@@ -29,53 +33,200 @@ import lombok.extern.log4j.Log4j2;
 @Log4j2
 public class CodefAccessTokenService {
 
-	private static final String OAUTH_URL = "https://oauth.codef.io/oauth/token";
-
+	@Value("${CODEF_OAUTH_URL:https://oauth.codef.io/oauth/token}")
+	private String oauthUrl;
 	@Value("${CODEF_CLIENT_ID:}")
 	private String clientId;
 	@Value("${CODEF_CLIENT_SECRET:}")
 	private String clientSecret;
 
 	private final CodefAccessTokenMapper codefAccessTokenMapper;
+	private final CodefHttpClient codefHttpClient;
+	private final StringRedisTemplate stringRedisTemplate;
+
+	private static final String REFRESH_LEASE_KEY = "codef:token:refresh";
+	private static final long LEASE_MARGIN_MS = 10_000L;    // OAuth 호출 최대 시간 이후 DB 저장까지의 여유
+	private static final long EXPIRY_BUFFER_MS = 10 * 60 * 1000L;    // 만료 10분 전부터는 사용하지 않음
+	private static final long LEASE_WAIT_MS = 500L;
+
+	@Value("${CODEF_TOKEN_REFRESH_AHEAD_MINUTES:60}")
+	private long refreshAheadMinutes;    // 만료까지 이 시간보다 적게 남으면 백그라운드 갱신
+
+	// 갱신 임대 시간 계산용 - CodefHttpClient와 같은 설정값
+	@Value("${CODEF_HTTP_POOL_TIMEOUT_MS:5000}")
+	private long httpPoolTimeoutMs;
+	@Value("${CODEF_HTTP_CONNECT_TIMEOUT_MS:3000}")
+	private long httpConnectTimeoutMs;
+	@Value("${CODEF_HTTP_SOCKET_TIMEOUT_MS:60000}")
+	private long httpSocketTimeoutMs;
+
+	private Duration leaseTtl;
+
+	private final Object refreshLock = new Object();
+	private volatile CodefAccessTokenVO cachedToken;
+	private volatile String rejectedToken;    // API가 401로 거부한 토큰 (만료 전이어도 DB에서 다시 쓰지 않음)
+
+	// OAuth 호출이 타임아웃(풀 대기 + 연결 + 응답 대기)으로 끝날 수 있는 시간보다 길게 잡아 갱신 중에 임대가 풀리지 않도록 함
+	@PostConstruct
+	void init() {
+		leaseTtl = Duration.ofMillis(httpPoolTimeoutMs + httpConnectTimeoutMs + httpSocketTimeoutMs + LEASE_MARGIN_MS);
+	}
 
-	private String accessToken;
-	private long expiresTime;
-
-	// access token 유효성 확인 및 갱신
+	// access token 조회 (메모리 우선, 만료가 가까울 때만 DB/OAuth)
 	public String getValidAccessToken() {
+		CodefAccessTokenVO token = cachedToken;
+		if (isUsable(token, EXPIRY_BUFFER_MS)) {
+			return token.getAccessToken();
+		}
+		return refresh(EXPIRY_BUFFER_MS).getAccessToken();
+	}
 
-		CodefAccessTokenVO curToken = codefAccessTokenMapper.getCurrentToken();
+	/**
+	 * API가 토큰을 거부(401)했을 때 호출 - 메모리 캐시를 비우고 다음 요청에서 새로 발급
+	 * 이미 다른 스레드가 새 토큰으로 바꿨다면 그대로 둠
+	 */
+	public void invalidate(String accessToken) {
+		if (accessToken == null) {
+			return;
+		}
+		rejectedToken = accessToken;
+		CodefAccessTokenVO token = cachedToken;
+		if (token != null && accessToken.equals(token.getAccessToken())) {
+			cachedToken = null;
+			log.warn("Codef API가 액세스 토큰을 거부함 - 캐시 무효화 후 재발급");
+		}
+	}
+
+	/**
+	 * 만료 전 백그라운드 갱신 - 자정 동기화처럼 호출이 몰릴 때 호출 경로에서 OAuth를 기다리지 않도록
+	 */
+	@Scheduled(fixedDelay = 60000)
+	public void refreshIfExpiring() {
+		if (clientId == null || clientId.trim().isEmpty()) {
+			return;
+		}
+		long aheadMs = TimeUnit.MINUTES.toMillis(refreshAheadMinutes);
+		if (isUsable(cachedToken, aheadMs)) {
+			return;
+		}
+		try {
+			refresh(aheadMs);
+		} catch (Exception e) {
+			log.warn("Codef 토큰 사전 갱신 실패: {}", e.getMessage());
+		}
+	}
+
+	/**
+	 * 토큰 갱신 (single-flight)
+	 * - 서버 안: 한 스레드만 갱신하고 기다린 스레드는 갱신된 토큰을 그대로 사용
+	 * - 서버 간: Redis 임대를 얻은 서버만 OAuth를 호출하고, 나머지는 DB에 저장된 새 토큰을 읽음
+	 *   (Redis 장애 시 임대 없이 갱신, 임대한 서버가 제때 저장하지 못하면 직접 갱신)
+	 */
+	private CodefAccessTokenVO refresh(long bufferMs) {
+		synchronized (refreshLock) {
+			CodefAccessTokenVO token = cachedToken;
+			if (isUsable(token, bufferMs)) {
+				return token;
+			}
+
+			// 다른 서버가 이미 갱신해 둔 토큰
+			token = codefAccessTokenMapper.getCurrentToken();
+			if (isUsable(token, bufferMs) && !isRejected(token)) {
+				cachedToken = token;
+				return token;
+			}
 
-		if (curToken == null || isTokenExpired(curToken)) {
-			saveAccessToken();  // 토큰 저장
-			curToken = codefAccessTokenMapper.getCurrentToken(); // 다시 조회
-			if (curToken == null) {
-				throw new BusinessException(ErrorCode.CODEF_AUTH_FAIL, "토큰 저장 후에도 토큰을 조회할 수 없습니다.");
+			String owner = UUID.randomUUID().toString();
+			Boolean leased = acquireLease(owner);
+			if (Boolean.FALSE.equals(leased)) {
+				token = waitForOtherNode(bufferMs);
+				if (token != null) {
+					cachedToken = token;
+					return token;
+				}
+			}
+
+			try {
+				token = saveAccessToken();
+				cachedToken = token;
+				return token;
+			} finally {
+				if (Boolean.TRUE.equals(leased)) {
+					releaseLease(owner);
+				}
 			}
 		}
-		this.accessToken = curToken.getAccessToken();
-		this.expiresTime = curToken.getExpiresAt().getTime();
+	}
 
-		return this.accessToken;
+	/**
+	 * 임대한 서버가 새 토큰을 저장할 때까지 대기 (최대 임대 시간)
+	 * 임대가 먼저 사라지면 (갱신 실패) 기다리지 않고 직접 갱신
+	 */
+	private CodefAccessTokenVO waitForOtherNode(long bufferMs) {
+		long deadline = System.currentTimeMillis() + leaseTtl.toMillis();
+		while (System.currentTimeMillis() < deadline) {
+			try {
+				Thread.sleep(LEASE_WAIT_MS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return null;
+			}
+			CodefAccessTokenVO token = codefAccessTokenMapper.getCurrentToken();
+			if (isUsable(token, bufferMs) && !isRejected(token)) {
+				return token;
+			}
+			if (!isLeaseHeld()) {
+				log.warn("다른 서버의 Codef 토큰 갱신 실패 - 직접 갱신");
+				return null;
+			}
+		}
+		log.warn("다른 서버의 Codef 토큰 갱신 대기 시간 초과 - 직접 갱신");
+		return null;
 	}
 
-	// 토큰 만료 여부 확인
-	private boolean isTokenExpired(CodefAccessTokenVO token) {
-		if (token == null || token.getExpiresAt() == null) {
+	// Redis 장애 등으로 확인할 수 없으면 잡혀 있는 것으로 보고 계속 대기
+	private boolean isLeaseHeld() {
+		try {
+			return !Boolean.FALSE.equals(stringRedisTemplate.hasKey(REFRESH_LEASE_KEY));
+		} catch (Exception e) {
 			return true;
 		}
+	}
 
-		long currentTime = System.currentTimeMillis();
-		long tokenExpiryTime = token.getExpiresAt().getTime();
+	// 임대 획득 여부, Redis 장애 시 null
+	private Boolean acquireLease(String owner) {
+		try {
+			return stringRedisTemplate.opsForValue().setIfAbsent(REFRESH_LEASE_KEY, owner, leaseTtl);
+		} catch (Exception e) {
+			log.warn("Codef 토큰 갱신 임대 획득 실패: {}", e.getMessage());
+			return null;
+		}
+	}
 
-		// 만료 10분 전에 미리 갱신
-		long bufferTime = 10 * 60 * 1000L; // 10분
+	private void releaseLease(String owner) {
+		try {
+			if (owner.equals(stringRedisTemplate.opsForValue().get(REFRESH_LEASE_KEY))) {
+				stringRedisTemplate.delete(REFRESH_LEASE_KEY);
+			}
+		} catch (Exception e) {
+			log.warn("Codef 토큰 갱신 임대 해제 실패: {}", e.getMessage());
+		}
+	}
 
-		return (currentTime + bufferTime) >= tokenExpiryTime;
+	// 만료까지 bufferMs보다 많이 남은 토큰인지 확인
+	private boolean isUsable(CodefAccessTokenVO token, long bufferMs) {
+		if (token == null || token.getAccessToken() == null || token.getExpiresAt() == null) {
+			return false;
+		}
+		return System.currentTimeMillis() + bufferMs < token.getExpiresAt().getTime();
+	}
+
+	private boolean isRejected(CodefAccessTokenVO token) {
+		return token.getAccessToken().equals(rejectedToken);
 	}
 
 	// 가져온 token을 token table에 저장
-	public void saveAccessToken() {
+	public CodefAccessTokenVO saveAccessToken() {
 		// API에서 토큰 가져오기
 		HashMap<String, Object> tokenMap = getAccessToken();
 
@@ -95,10 +246,10 @@ public class CodefAccessTokenService {
 			throw new BusinessException(ErrorCode.CODEF_AUTH_FAIL, "응답에서 expires_in을 찾을 수 없습니다.");
 		}
 
-		accessToken = tokenMap.get("access_token").toString();
+		String accessToken = tokenMap.get("access_token").toString();
 
 		long expiresIn = Long.parseLong(tokenMap.get("expires_in").toString()) * 1000L;
-		expiresTime = System.currentTimeMillis() + expiresIn;
+		long expiresTime = System.currentTimeMillis() + expiresIn;
 
 		// VO 생성
 		CodefAccessTokenVO vo = new CodefAccessTokenVO();
@@ -117,12 +268,11 @@ public class CodefAccessTokenService {
 		} else {
 			codefAccessTokenMapper.insertToken(vo);
 		}
+		return vo;
 	}
 
 	// api로 accesstoken 가져옴
 	public HashMap<String, Object> getAccessToken() {
-		HttpURLConnection con = null;
-		BufferedReader br = null;
 		try {
 			// 클라이언트 ID/Secret 검증
 			if (clientId == null || clientId.trim().isEmpty()) {
@@ -132,56 +282,38 @@ public class CodefAccessTokenService {
 				throw new BusinessException(ErrorCode.CODEF_AUTH_FAIL, "CODEF_CLIENT_SECRET이 설정되지 않았습니다.");
 			}
 
-			URL url = new URL(OAUTH_URL);
-			con = (HttpURLConnection)url.openConnection();
-
 			// body
 			String params = "grant_type=client_credentials&scope=read";
 
-			// header
-			con.setRequestMethod("POST");
-			con.setRequestProperty("Content-Type", "application/x-www-form-urlencoded");
-
 			// auth : 클라이언트아이디, 시크릿코드 Base64 인코딩
 			String auth = clientId + ":" + clientSecret;
 			String authStringEnc = Base64.getEncoder().encodeToString(auth.getBytes(StandardCharsets.UTF_8));
 
-			con.setRequestProperty("Authorization", "Basic " + authStringEnc);
-			con.setDoInput(true);
-			con.setDoOutput(true);
-
 			// 요청
-			try (OutputStream os = con.getOutputStream()) {
-				os.write(params.getBytes());
-				os.flush();
-			}
+			CodefHttpClient.Response response = codefHttpClient.post(oauthUrl, params,
+				ContentType.APPLICATION_FORM_URLENCODED, "Basic " + authStringEnc);
 
 			// 응답
-			int responseCode = con.getResponseCode();
-			if (responseCode == HttpURLConnection.HTTP_OK) {
-				br = new BufferedReader(new InputStreamReader(con.getInputStream(), StandardCharsets.UTF_8));
-			} else if (responseCode == HttpURLConnection.HTTP_UNAUTHORIZED) {
+			int responseCode = response.getStatus();
+			if (responseCode == HttpStatus.SC_UNAUTHORIZED) {
 				throw new BusinessException(ErrorCode.CODEF_AUTH_FAIL,
 					"Codef OAuth 인증에 실패했습니다. 클라이언트 ID/Secret을 확인해주세요. (HTTP " + responseCode + ")");
-			} else {
-				// 에러 응답 읽기
-				br = new BufferedReader(new InputStreamReader(con.getErrorStream(), StandardCharsets.UTF_8));
-				String errorResponse = readResponse(br);
+			} else if (responseCode != HttpStatus.SC_OK) {
 				throw new BusinessException(ErrorCode.CODEF_AUTH_FAIL,
-					"Codef OAuth API 요청이 실패했습니다. (HTTP " + responseCode + "): " + errorResponse);
+					"Codef OAuth API 요청이 실패했습니다. (HTTP " + responseCode + "): " + response.getBody());
 			}
-			// 성공 응답 읽기
-			String responseStr = readResponse(br);
 
 			// JSON 파싱
 			ObjectMapper mapper = new ObjectMapper();
-			HashMap<String, Object> result = mapper.readValue(responseStr,
+			HashMap<String, Object> result = mapper.readValue(response.getBody(),
 				new TypeReference<HashMap<String, Object>>() {
 				});
 
 			log.info("Codef OAuth API에서 토큰 성공적으로 획득");
 			return result;
 
+		} catch (BusinessException e) {
+			throw e;
 		} catch (IOException e) {
 			throw new BusinessException(ErrorCode.CODEF_AUTH_FAIL,
 				"Codef OAuth API 네트워크 오류가 발생했습니다: " + e.getMessage());
@@ -189,28 +321,6 @@ public class CodefAccessTokenService {
 			// log.error("Access Token 획득 중 예상치 못한 오류", e);
 			throw new BusinessException(ErrorCode.CODEF_AUTH_FAIL,
 				"Access Token 획득 중 예상치 못한 오류가 발생했습니다: " + e.getMessage());
-		} finally {
-			// 리소스 정리
-			if (br != null) {
-				try {
-					br.close();
-				} catch (IOException e) {
-					log.warn("BufferedReader 정리 실패: {}", e.getMessage());
-				}
-			}
-			if (con != null) {
-				con.disconnect();
-			}
-		}
-	}
-
-	// 응답 읽기 헬퍼 메서드
-	private String readResponse(BufferedReader br) throws IOException {
-		StringBuilder responseStr = new StringBuilder();
-		String inputLine;
-		while ((inputLine = br.readLine()) != null) {
-			responseStr.append(inputLine);
 		}
-		return responseStr.toString();
 	}
 }
@@ -1,19 +1,15 @@
 package org.bbagisix.common.codef.service;
 
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.io.OutputStream;
-import java.net.HttpURLConnection;
-import java.net.MalformedURLException;
-import java.net.ProtocolException;
-import java.net.URL;
+import java.io.InterruptedIOException;
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.apache.http.HttpStatus;
+import org.apache.http.entity.ContentType;
 import org.bbagisix.asset.domain.AssetVO;
 import org.bbagisix.asset.dto.AssetDTO;
 import org.bbagisix.asset.mapper.AssetMapper;
@@ -48,9 +44,14 @@ public class CodefApiService {
 
 	private final AssetMapper assetMapper;
 
-	private static final String CONNECTED_ID_URL = "https://development.codef.io/v1/account/create";
-	private static final String TRANSACTION_LIST_URL = "https://development.codef.io/v1/kr/bank/p/account/transaction-list";
-	private static final String DELETED_URL = "https://development.codef.io/v1/account/delete";
+	private final CodefHttpClient codefHttpClient;
+
+	@Value("${CODEF_API_URL:https://development.codef.io}")
+	private String apiUrl;    // 로컬 스텁 서버로 바꿔 테스트 가능
+
+	private static final String CONNECTED_ID_PATH = "/v1/account/create";
+	private static final String TRANSACTION_LIST_PATH = "/v1/kr/bank/p/account/transaction-list";
+	private static final String DELETED_PATH = "/v1/account/delete";
 
 	private final ObjectMapper objectMapper = new ObjectMapper();
 
@@ -92,7 +93,7 @@ public class CodefApiService {
 		Map<String, Object> reqBody = connectedIdReqBody(bankCode, assetDTO.getBankId(), encryptedPw);
 
 		// API 호출
-		Map<String, Object> res = postCodefApi(CONNECTED_ID_URL, reqBody);
+		Map<String, Object> res = postCodefApi(apiUrl + CONNECTED_ID_PATH, reqBody);
 		if (res == null) {
 			throw new BusinessException(ErrorCode.CODEF_FAIL, "Codef API로부터 응답을 받지 못했습니다.");
 		}
@@ -172,7 +173,7 @@ public class CodefApiService {
 		CodefTransactionReqDTO requestDTO = createTransactionReqDTO(assetDTO, connectedId, startDate, endDate, isFirst);
 
 		Map<String, Object> requestBody = transactionListReqBody(requestDTO);
-		Map<String, Object> res = postCodefApi(TRANSACTION_LIST_URL, requestBody);
+		Map<String, Object> res = postCodefApi(apiUrl + TRANSACTION_LIST_PATH, requestBody);
 
 		if (res == null) {
 			throw new BusinessException(ErrorCode.CODEF_FAIL, "거래내역 조회 API로부터 응답을 받지 못했습니다.");
@@ -202,7 +203,7 @@ public class CodefApiService {
 
 		// API 호출
 		Map<String, Object> reqBody = deleteConnectedIdReqBody(bankCode, connectedId);
-		Map<String, Object> res = postCodefApi(DELETED_URL, reqBody);
+		Map<String, Object> res = postCodefApi(apiUrl + DELETED_PATH, reqBody);
 
 		if (res == null) {
 			throw new BusinessException(ErrorCode.CODEF_FAIL, "Connected ID 삭제 API로부터 응답을 받지 못했습니다.");
@@ -279,45 +280,28 @@ public class CodefApiService {
 
 	// Codef API 공통 호출 메서드
 	private Map<String, Object> postCodefApi(String apiURL, Map<String, Object> requestBody) {
-		HttpURLConnection con = null;
-		BufferedReader br = null;
-
 		try {
-			URL url = new URL(apiURL);
-			con = (HttpURLConnection)url.openConnection();
-			con.setRequestMethod("POST");
-			con.setRequestProperty("Content-Type", "application/json");
-
 			String accessToken = accessTokenService.getValidAccessToken();
 			if (accessToken == null) {
 				throw new BusinessException(ErrorCode.CODEF_AUTH_FAIL, "유효한 액세스 토큰을 가져올 수 없습니다.");
 			}
-			con.setRequestProperty("Authorization", "Bearer " + accessToken);
-
-			con.setDoInput(true);
-			con.setDoOutput(true);
 
 			// 요청 본문 전송
 			String jsonBody = objectMapper.writeValueAsString(requestBody);
-
-			try (OutputStream os = con.getOutputStream()) {
-				os.write(jsonBody.getBytes(StandardCharsets.UTF_8));
-				os.flush();
-			}
+			CodefHttpClient.Response response = codefHttpClient.post(apiURL, jsonBody, ContentType.APPLICATION_JSON,
+				"Bearer " + accessToken);
 
 			// 응답
-			int resCode = con.getResponseCode();
-			if (resCode == HttpURLConnection.HTTP_OK) {
-				br = new BufferedReader(new InputStreamReader(con.getInputStream(), StandardCharsets.UTF_8));
-			} else if (resCode == HttpURLConnection.HTTP_UNAUTHORIZED) {
+			int resCode = response.getStatus();
+			if (resCode == HttpStatus.SC_UNAUTHORIZED) {
+				// 폐기된 토큰을 만료 때까지 계속 쓰지 않도록 다음 요청에서 재발급
+				accessTokenService.invalidate(accessToken);
 				throw new BusinessException(ErrorCode.CODEF_AUTH_FAIL);
-			} else {
-				br = new BufferedReader(new InputStreamReader(con.getErrorStream(), StandardCharsets.UTF_8));
-				String errorResponse = readResponse(br);
+			} else if (resCode != HttpStatus.SC_OK) {
 				throw new BusinessException(ErrorCode.CODEF_FAIL, "Codef API 요청이 실패했습니다.");
 			}
 
-			String resString = readResponse(br);
+			String resString = response.getBody();
 
 			// URL 디코딩
 			String decodedRes;
@@ -329,41 +313,17 @@ public class CodefApiService {
 
 			return objectMapper.readValue(decodedRes, new TypeReference<Map<String, Object>>() {
 			});
-		} catch (ProtocolException e) {
-			throw new BusinessException(ErrorCode.CODEF_FAIL, "프로토콜 오류가 발생했습니다: " + e.getMessage());
-		} catch (MalformedURLException e) {
-			throw new BusinessException(ErrorCode.CODEF_FAIL, "잘못된 URL입니다: " + e.getMessage());
 		} catch (JsonParseException e) {
 			throw new BusinessException(ErrorCode.CODEF_FAIL, "JSON 파싱 오류가 발생했습니다: " + e.getMessage());
 		} catch (JsonMappingException e) {
 			throw new BusinessException(ErrorCode.CODEF_FAIL, "JSON 매핑 오류가 발생했습니다: " + e.getMessage());
 		} catch (JsonProcessingException e) {
 			throw new BusinessException(ErrorCode.CODEF_FAIL, "JSON 처리 오류가 발생했습니다: " + e.getMessage());
+		} catch (InterruptedIOException e) {
+			throw new BusinessException(ErrorCode.CODEF_FAIL, "Codef API 응답 시간이 초과되었습니다: " + e.getMessage());
 		} catch (IOException e) {
 			throw new BusinessException(ErrorCode.CODEF_FAIL, "네트워크 I/O 오류가 발생했습니다: " + e.getMessage());
-		} finally {
-			// 리소스 정리
-			if (br != null) {
-				try {
-					br.close();
-				} catch (IOException e) {
-					log.warn("BufferedReader 정리 실패: {}", e.getMessage());
-				}
-			}
-			if (con != null) {
-				con.disconnect();
-			}
-		}
-	}
-
-	// 응답 읽기 헬퍼 메서드
-	private String readResponse(BufferedReader br) throws IOException {
-		StringBuilder resStr = new StringBuilder();
-		String inputLine;
-		while ((inputLine = br.readLine()) != null) {
-			resStr.append(inputLine);
 		}
-		return resStr.toString();
 	}
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,152 @@
+package org.bbagisix.common.codef.service;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.apache.http.HttpHeaders;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+import org.apache.http.util.EntityUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Codef 전용 HTTP 클라이언트 (커넥션 풀)
+ * - keep-alive로 연결을 재사용해 요청마다 TLS 핸드셰이크를 하지 않고, gzip 응답은 자동으로 풀어서 반환
+ * - 연결/풀 대기/응답 타임아웃으로 은행 응답 지연이 호출 스레드(스케줄러, 동기화 작업자)를 무기한 붙잡지 않음
+ * - 호출 결과별 건수와 풀 사용량을 주기적으로 기록
+ */
+@Log4j2
+@Component
+public class CodefHttpClient {
+
+	@Value("${CODEF_HTTP_MAX_TOTAL:20}")
+	private int maxTotal;
+
+	@Value("${CODEF_HTTP_MAX_PER_ROUTE:10}")
+	private int maxPerRoute;    // 호스트별 (API, OAuth) 최대 연결 수, 동기화 동시 처리 수보다 크게
+
+	@Value("${CODEF_HTTP_CONNECT_TIMEOUT_MS:3000}")
+	private int connectTimeoutMs;
+
+	@Value("${CODEF_HTTP_POOL_TIMEOUT_MS:5000}")
+	private int poolTimeoutMs;    // 풀에서 연결을 얻기까지 대기
+
+	@Value("${CODEF_HTTP_SOCKET_TIMEOUT_MS:60000}")
+	private int socketTimeoutMs;    // 응답 대기 (은행 거래내역 조회는 수십 초 걸릴 수 있음)
+
+	@Value("${CODEF_HTTP_KEEP_ALIVE_MS:30000}")
+	private long keepAliveMs;    // 서버가 Keep-Alive 시간을 주지 않거나 더 길게 줄 때 최대 유지 시간
+
+	private PoolingHttpClientConnectionManager connectionManager;
+	private CloseableHttpClient httpClient;
+
+	private final AtomicLong requestCount = new AtomicLong();
+	private final AtomicLong failureCount = new AtomicLong();
+	private final AtomicLong timeoutCount = new AtomicLong();
+	private final AtomicLong poolTimeoutCount = new AtomicLong();
+
+	@PostConstruct
+	public void start() {
+		connectionManager = new PoolingHttpClientConnectionManager();
+		connectionManager.setMaxTotal(maxTotal);
+		connectionManager.setDefaultMaxPerRoute(maxPerRoute);
+		connectionManager.setValidateAfterInactivity(2000);    // 오래 쉰 연결은 재사용 전 확인
+
+		RequestConfig requestConfig = RequestConfig.custom()
+			.setConnectTimeout(connectTimeoutMs)
+			.setConnectionRequestTimeout(poolTimeoutMs)
+			.setSocketTimeout(socketTimeoutMs)
+			.build();
+
+		httpClient = HttpClients.custom()
+			.setConnectionManager(connectionManager)
+			.setDefaultRequestConfig(requestConfig)
+			.setKeepAliveStrategy((response, context) -> {
+				long keepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+				return keepAlive > 0 ? Math.min(keepAlive, keepAliveMs) : keepAliveMs;
+			})
+			.evictExpiredConnections()
+			.evictIdleConnections(keepAliveMs, TimeUnit.MILLISECONDS)
+			.build();
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		try {
+			httpClient.close();
+		} catch (IOException e) {
+			log.warn("Codef HTTP 클라이언트 종료 실패: {}", e.getMessage());
+		}
+	}
+
+	/**
+	 * POST 요청 후 상태 코드와 본문(UTF-8) 반환, 응답을 끝까지 읽어 연결은 풀로 돌려줌
+	 * @throws IOException 연결/응답 실패, 타임아웃 (호출하는 쪽에서 오류 코드로 변환)
+	 */
+	public Response post(String url, String body, ContentType contentType, String authorization) throws IOException {
+		HttpPost request = new HttpPost(url);
+		request.setHeader(HttpHeaders.AUTHORIZATION, authorization);
+		request.setEntity(new StringEntity(body, contentType));
+
+		requestCount.incrementAndGet();
+		try (CloseableHttpResponse response = httpClient.execute(request)) {
+			String responseBody = response.getEntity() != null
+				? EntityUtils.toString(response.getEntity(), StandardCharsets.UTF_8)
+				: "";
+			return new Response(response.getStatusLine().getStatusCode(), responseBody);
+		} catch (ConnectionPoolTimeoutException e) {
+			poolTimeoutCount.incrementAndGet();
+			failureCount.incrementAndGet();
+			throw e;
+		} catch (InterruptedIOException e) {
+			// 연결/응답 타임아웃 (SocketTimeoutException, ConnectTimeoutException)
+			timeoutCount.incrementAndGet();
+			failureCount.incrementAndGet();
+			throw e;
+		} catch (IOException e) {
+			failureCount.incrementAndGet();
+			throw e;
+		}
+	}
+
+	public PoolStats getPoolStats() {
+		return connectionManager.getTotalStats();
+	}
+
+	@Scheduled(fixedDelay = 60000)
+	public void reportStats() {
+		PoolStats stats = getPoolStats();
+		log.info("Codef HTTP 상태: request={}, failure={}, timeout={}, poolTimeout={}, "
+				+ "leased={}, available={}, pending={}, max={}",
+			requestCount.get(), failureCount.get(), timeoutCount.get(), poolTimeoutCount.get(),
+			stats.getLeased(), stats.getAvailable(), stats.getPending(), stats.getMax());
+	}
+
+	@Getter
+	@AllArgsConstructor
+	public static class Response {
+		private final int status;
+		private final String body;
+	}
+}
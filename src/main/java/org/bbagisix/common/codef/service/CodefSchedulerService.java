@@ -1,22 +1,35 @@
 package org.bbagisix.common.codef.service;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.bbagisix.asset.domain.AssetVO;
 import org.bbagisix.asset.dto.AssetDTO;
 import org.bbagisix.asset.mapper.AssetMapper;
 import org.bbagisix.asset.service.AssetService;
 import org.bbagisix.classify.service.ClassifyService;
+import org.bbagisix.common.codef.dto.CodefSyncReportDTO;
 import org.bbagisix.common.codef.dto.CodefTransactionResDTO;
 import org.bbagisix.expense.domain.ExpenseVO;
 import org.bbagisix.expense.mapper.ExpenseMapper;
+import org.bbagisix.expense.service.ExpenseRollupService;
+import org.bbagisix.expense.service.ExpenseVersionService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
@@ -32,45 +45,139 @@ public class CodefSchedulerService {
 
 	private final CodefApiService codefApiService;
 
-	private static final Long TBC = 14L; // 카테고리 id : TBC 미지정
-	private static final Long INCOME = 13L; // 카테고리 id : 수입
+	private static final int MAX_SYNC_CONCURRENCY = 8;    // 커넥션 풀(최대 10)에서 페이지 조회·요청 처리용 여유분 제외
+	private static final int MAX_REPORTED_FAILURES = 100;
 	private final AssetService assetService;
 	private final ClassifyService classifyService;
+	private final ExpenseRollupService expenseRollupService;
+	private final ExpenseVersionService expenseVersionService;
+	private final TransactionTemplate transactionTemplate;
+
+	@Value("${CODEF_SYNC_CONCURRENCY:4}")
+	private int syncConcurrency;    // 동시에 동기화할 계좌 수 (DB 커넥션 풀 크기 안에서)
+
+	@Value("${CODEF_SYNC_PAGE_SIZE:100}")
+	private int syncPageSize;    // 한 번에 조회하는 계좌 수
+
+	@Value("${CODEF_SYNC_TIMEOUT_MINUTES:120}")
+	private long syncTimeoutMinutes;
+
+	@Value("${CODEF_SYNC_OVERLAP_MINUTES:30}")
+	private long syncOverlapMinutes;    // 기준 시각보다 앞서 다시 조회하는 구간 (은행의 늦은 반영 대비)
+
+	@Value("${CODEF_SYNC_WINDOW_DAYS:31}")
+	private int syncWindowDays;    // 한 번에 조회하는 최대 일수 (따라잡기 시 응답 크기 제한)
+
+	@Value("${CODEF_SYNC_MAX_CATCHUP_DAYS:90}")
+	private int maxCatchUpDays;    // 오래 멈췄던 계좌도 이 기간까지만 거슬러 조회
 
 	// 10분마다 실행 (cron: 초 분 시 일 월 요일)
 	// @Scheduled(cron = "0 */10 * * * *")
 	// 자정(00:00)에 한번 실행
 	@Scheduled(cron = "0 0 0 * * *")
-	@Transactional
 	public void syncAllMainAssetsTransactions() {
-		LocalDateTime now = LocalDateTime.now();
+		log.info("✅ Scheduler start" + LocalDateTime.now());
+		CodefSyncReportDTO report = syncAllMainAssets();
+		log.info("Scheduler finish - total: {}, success: {}, fail: {}, inserted: {}, elapsed: {}ms, completed: {}",
+			report.getTotal(), report.getSucceeded(), report.getFailed(), report.getInserted(),
+			report.getElapsedMs(), report.isCompleted());
+	}
+
+	/**
+	 * 모든 main 계좌 거래내역 동기화
+	 * - 계좌는 페이지 단위로 읽으면서 작업자 풀에 넘기고, 처리 중인 계좌 수를 제한해 한꺼번에 메모리에 올리지 않음
+	 * - 계좌마다 Codef 조회/분류 후 짧은 트랜잭션으로 저장하므로 한 계좌의 실패/지연이 다른 계좌에 영향 없음
+	 */
+	public CodefSyncReportDTO syncAllMainAssets() {
+		int workers = Math.max(1, Math.min(syncConcurrency, MAX_SYNC_CONCURRENCY));
+		Date startedAt = new Date();
+		SyncRun run = new SyncRun();
+		boolean completed = true;
 
-		log.info("✅ Scheduler start" + now);
-		// 모든 main 계좌 조회
-		List<AssetVO> mainAssets = assetMapper.selectAllMainAssets();
+		ExecutorService pool = Executors.newFixedThreadPool(workers, new CustomizableThreadFactory("codef-sync-"));
+		Semaphore inFlight = new Semaphore(workers * 2);
+		try {
+			// 계좌는 PK 순서로 한 페이지씩 조회 (작업자를 기다리는 동안 열어 둔 결과 집합/트랜잭션 없음)
+			int pageSize = Math.max(1, syncPageSize);
+			long afterAssetId = 0L;
+			List<AssetVO> page;
+			do {
+				page = assetMapper.selectMainAssetsAfter(afterAssetId, pageSize);
+				for (AssetVO asset : page) {
+					inFlight.acquire();
+					pool.execute(() -> {
+						try {
+							syncAsset(asset, run);
+						} finally {
+							inFlight.release();
+						}
+					});
+				}
+				if (!page.isEmpty()) {
+					afterAssetId = page.get(page.size() - 1).getAssetId();
+				}
+			} while (page.size() == pageSize);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			log.warn("거래내역 동기화 중단 - 이미 넘긴 계좌까지만 처리");
+			completed = false;
+		} catch (Exception e) {
+			log.error("main 계좌 조회 중 오류 발생 - 이미 넘긴 계좌까지만 처리: error={}", e.getMessage(), e);
+			completed = false;
+		} finally {
+			pool.shutdown();
+		}
 
-		if (mainAssets.isEmpty()) {
-			log.info("동기화할 main 계좌가 없습니다.");
-			return;
+		try {
+			if (!pool.awaitTermination(syncTimeoutMinutes, TimeUnit.MINUTES)) {
+				log.warn("거래내역 동기화 시간 초과 ({}분) - 남은 계좌 중단", syncTimeoutMinutes);
+				pool.shutdownNow();
+				completed = false;
+			}
+		} catch (InterruptedException e) {
+			pool.shutdownNow();
+			Thread.currentThread().interrupt();
+			completed = false;
 		}
 
-		int successCount = 0;
-		int failCount = 0;
+		List<CodefSyncReportDTO.Failure> failures;
+		synchronized (run.failures) {
+			failures = new ArrayList<>(run.failures);
+		}
+		return CodefSyncReportDTO.builder()
+			.startedAt(startedAt)
+			.elapsedMs(System.currentTimeMillis() - startedAt.getTime())
+			.concurrency(workers)
+			.total(run.succeeded.get() + run.failed.get())
+			.succeeded(run.succeeded.get())
+			.failed(run.failed.get())
+			.inserted(run.inserted.get())
+			.completed(completed)
+			.failures(failures)
+			.build();
+	}
 
-		// 각 계좌별로 거래내역 동기화
-		for (AssetVO asset : mainAssets) {
-			try {
-				syncAssetTransactions(asset);
-				successCount++;
-			} catch (Exception e) {
-				failCount++;
+	private void syncAsset(AssetVO asset, SyncRun run) {
+		try {
+			run.inserted.addAndGet(syncAssetTransactions(asset));
+			run.succeeded.incrementAndGet();
+		} catch (Exception e) {
+			run.failed.incrementAndGet();
+			log.warn("계좌 거래내역 동기화 실패: assetId={}, userId={}, error={}",
+				asset.getAssetId(), asset.getUserId(), e.getMessage());
+			synchronized (run.failures) {
+				if (run.failures.size() < MAX_REPORTED_FAILURES) {
+					run.failures.add(CodefSyncReportDTO.Failure.builder()
+						.assetId(asset.getAssetId())
+						.userId(asset.getUserId())
+						.message(e.getMessage())
+						.build());
+				}
 			}
 		}
-		log.info("Scheduler finish - success: {}, fail: {}", successCount, failCount);
 	}
 
 	// 개별 사용자 거래내역 동기화 (새로고침용)
-	@Transactional
 	public void syncUserTransactions(Long userId) {
 		AssetVO mainAsset = assetMapper.selectAssetByUserIdAndStatus(userId, "main");
 		if (mainAsset != null) {
@@ -82,39 +189,102 @@ public class CodefSchedulerService {
 		}
 	}
 
-	// 단일 계좌의 거래내역 동기화
-	private void syncAssetTransactions(AssetVO asset) {
+	/**
+	 * 단일 계좌의 거래내역 동기화, 저장 건수 반환
+	 * - 계좌의 동기화 기준 시각(last_synced_at) 이후만 조회해 요청/응답 크기가 실제 새 거래 수에 비례
+	 * - 은행의 늦은 반영을 위해 기준 시각보다 조금 앞(겹침 구간)부터 조회하고, 겹친 거래는 지문으로 제외
+	 * - 오래 동기화하지 못한 계좌는 조회 기간을 여러 구간으로 나눠 따라잡고, 구간마다 기준 시각을 저장해
+	 *   중간에 실패해도 다음 동기화는 실패한 구간부터 이어서 조회
+	 */
+	private int syncAssetTransactions(AssetVO asset) {
 		// AssetDTO 생성
 		AssetDTO assetDTO = createAssetDTO(asset);
 
-		// 조회 기간 설정 (어제~오늘)
+		Date syncStartedAt = new Date();
 		LocalDate today = LocalDate.now();
-		LocalDate yesterday = today.minusDays(1);
+		LocalDate from = syncStartDate(asset, today);
+		int inserted = 0;
 
-		String todayStr = today.format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-		String yesterdayStr = yesterday.format(DateTimeFormatter.ofPattern("yyyyMMdd"));
+		while (!from.isAfter(today)) {
+			LocalDate to = from.plusDays(Math.max(1, syncWindowDays) - 1);
+			if (to.isAfter(today)) {
+				to = today;
+			}
+			// 마지막 구간은 시작 시각까지, 중간 구간은 구간 다음 날 0시까지 조회한 것으로 기록
+			Date watermark = to.equals(today)
+				? syncStartedAt
+				: Date.from(to.plusDays(1).atStartOfDay(ZoneId.systemDefault()).toInstant());
+
+			Integer count = syncWindow(asset, assetDTO, from, to, watermark);
+			if (count == null) {
+				break;
+			}
+			inserted += count;
+			from = to.plusDays(1);
+		}
+		return inserted;
+	}
+
+	/**
+	 * 다음 조회 시작일
+	 * - 기준 시각이 없으면 (이 기능 이전에 연결한 계좌) 어제부터
+	 * - 기준 시각에서 겹침 구간만큼 앞선 날부터, 단 최대 따라잡기 기간을 넘지 않음
+	 */
+	private LocalDate syncStartDate(AssetVO asset, LocalDate today) {
+		if (asset.getLastSyncedAt() == null) {
+			return today.minusDays(1);
+		}
+		LocalDate from = asset.getLastSyncedAt().toInstant()
+			.minus(Duration.ofMinutes(syncOverlapMinutes))
+			.atZone(ZoneId.systemDefault())
+			.toLocalDate();
+		LocalDate oldest = today.minusDays(maxCatchUpDays);
+		if (from.isBefore(oldest)) {
+			log.warn("동기화 기준 시각이 따라잡기 기간({}일)보다 오래됨 - {}부터 조회: assetId={}, lastSyncedAt={}",
+				maxCatchUpDays, oldest, asset.getAssetId(), asset.getLastSyncedAt());
+			return oldest;
+		}
+		return from.isAfter(today) ? today : from;
+	}
+
+	/**
+	 * 한 조회 구간 동기화 (Codef 조회/분류는 트랜잭션 밖, 잔액/거래내역/기준 시각 저장은 한 트랜잭션)
+	 * @return 저장 건수, 응답이 없으면 null (기준 시각을 올리지 않고 중단)
+	 */
+	private Integer syncWindow(AssetVO asset, AssetDTO assetDTO, LocalDate from, LocalDate to, Date watermark) {
+		String fromStr = from.format(DateTimeFormatter.ofPattern("yyyyMMdd"));
+		String toStr = to.format(DateTimeFormatter.ofPattern("yyyyMMdd"));
 
 		// 거래내역 조회
-		log.info(" 👉 [ user ID : {} ] Codef API start...", asset.getUserId());
+		log.info(" 👉 [ user ID : {} ] Codef API start... {} ~ {}", asset.getUserId(), fromStr, toStr);
 		CodefTransactionResDTO transactionResDTO = codefApiService.getTransactionList(assetDTO, asset.getConnectedId(),
-			yesterdayStr, todayStr, false);
+			fromStr, toStr, false);
 
-		if (transactionResDTO == null || transactionResDTO.getResTrHistoryList() == null) {
+		if (transactionResDTO == null) {
 			log.warn("API 응답이 null입니다");
-			return;
+			return null;
 		}
-		// 계좌 잔액 업데이트
-		updateAssetBalance(asset, transactionResDTO);
-		log.info(" 👉 [ user ID : {} ] update new balance... ", asset.getUserId());
 
-		// 새로운 거래내역만 필터링하여 저장
-		List<ExpenseVO> newTransactions = filterNewTransactions(asset, transactionResDTO);
+		// 새로운 거래내역만 필터링하여 분류 (거래가 없는 구간은 목록이 null일 수 있음)
+		List<ExpenseVO> newTransactions = transactionResDTO.getResTrHistoryList() == null
+			? List.of()
+			: filterNewTransactions(asset, transactionResDTO);
+		List<ExpenseVO> classified = newTransactions.isEmpty() ? List.of() : classifyService.classify(newTransactions);
 
-		if (!newTransactions.isEmpty()) {
-			newTransactions = classifyService.classify(newTransactions);
-			int insertedCount = expenseMapper.insertExpenses(newTransactions);
-			log.info(" 👉 [ user ID : {} ] update new transactions... : {} ", asset.getUserId(), newTransactions.size());
-		}
+		transactionTemplate.executeWithoutResult(status -> {
+			// 계좌 잔액 업데이트
+			updateAssetBalance(asset, transactionResDTO);
+
+			if (!classified.isEmpty()) {
+				expenseVersionService.recordChange(asset.getUserId());
+				expenseMapper.insertExpenses(classified);
+				expenseRollupService.recordInserts(classified);
+			}
+			assetMapper.updateLastSyncedAt(asset.getAssetId(), watermark);
+		});
+		log.info(" 👉 [ user ID : {} ] update new balance and transactions... : {} ", asset.getUserId(),
+			classified.size());
+		return classified.size();
 	}
 
 	// AssetVO를 AssetDTO로 변환
@@ -138,65 +308,18 @@ public class CodefSchedulerService {
 
 	}
 
-	// 중복되지 않은 새로운 거래내역만 필터링
+	// 이미 저장된 거래를 제외한 새로운 거래내역 (계좌당 중복 조회 1회)
 	private List<ExpenseVO> filterNewTransactions(AssetVO asset, CodefTransactionResDTO transactionResDTO) {
-		List<ExpenseVO> newTransactions = new ArrayList<>();
-
-		for (CodefTransactionResDTO.HistoryItem item : transactionResDTO.getResTrHistoryList()) {
-			List<ExpenseVO> expenseVOList = assetService.toExpenseVOList(asset.getAssetId(), asset.getUserId(),
-				transactionResDTO);
-
-			for (ExpenseVO expenseVO : expenseVOList) {
-				if (!isDuplicateTransaction(expenseVO) && !isUserModifiedTransaction(expenseVO)) {
-					newTransactions.add(expenseVO);
-				}
-			}
-			break; // 전체 리스트 한번에 처리
-		}
-		return newTransactions;
+		List<ExpenseVO> expenseVOList = assetService.toExpenseVOList(asset.getAssetId(), asset.getUserId(),
+			transactionResDTO);
+		return assetService.excludeExistingTransactions(asset.getUserId(), asset.getAssetId(), expenseVOList);
 	}
 
-	// 중복 거래 내역 체크
-	private boolean isDuplicateTransaction(ExpenseVO expenseVO) {
-		try {
-			// 1차: codef_transaction_id 기반 중복 체크 (정확함)
-			if (expenseVO.getCodefTransactionId() != null) {
-				int codefCount = expenseMapper.countByCodefTransactionId(expenseVO.getCodefTransactionId());
-				if (codefCount > 0) {
-					return true;
-				}
-			}
-
-			// 2차: 기존 방식 fallback (codef_transaction_id가 없는 경우)
-			int count = assetMapper.countDuplicateTransaction(
-				expenseVO.getUserId(),
-				expenseVO.getAssetId(),
-				expenseVO.getAmount(),
-				expenseVO.getDescription(),
-				expenseVO.getExpenditureDate()
-			);
-			return count > 0;
-		} catch (Exception err) {
-			return false; // 오류 시 중복이 아닌 것으로 간주하여 저장
-		}
-	}
-
-	// 사용자 수정 거래 체크 (user_modified=true인 거래 제외)
-	private boolean isUserModifiedTransaction(ExpenseVO expenseVO) {
-		try {
-			// codef_transaction_id가 있는 경우, 해당 거래가 사용자에 의해 수정되었는지 확인
-			if (expenseVO.getCodefTransactionId() != null) {
-				List<ExpenseVO> existingTransactions = expenseMapper.findByCodefTransactionId(
-					expenseVO.getCodefTransactionId());
-				for (ExpenseVO existing : existingTransactions) {
-					if (Boolean.TRUE.equals(existing.getUserModified())) {
-						return true; // 사용자가 수정한 거래이므로 제외
-					}
-				}
-			}
-			return false;
-		} catch (Exception err) {
-			return false; // 오류 시 제외하지 않음
-		}
+	// 실행 중 작업자들이 함께 갱신하는 집계
+	private static class SyncRun {
+		private final AtomicInteger succeeded = new AtomicInteger();
+		private final AtomicInteger failed = new AtomicInteger();
+		private final AtomicInteger inserted = new AtomicInteger();
+		private final List<CodefSyncReportDTO.Failure> failures = new ArrayList<>();
 	}
 }
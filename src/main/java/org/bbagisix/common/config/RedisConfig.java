@@ -2,14 +2,12 @@ package org.bbagisix.common.config;
 
 import java.util.List;
 
-import org.bbagisix.chat.service.ChatMessageSubscriber;
 import org.bbagisix.finproduct.dto.RecommendedSavingDTO;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.listener.PatternTopic;
 import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
@@ -69,16 +67,13 @@ public class RedisConfig {
 		return template;
 	}
 
+	/**
+	 * 채팅 채널은 ChatChannelSubscriptionManager가 로컬 구독자가 있는 방만 동적으로 구독
+	 */
 	@Bean
-	public RedisMessageListenerContainer redisMessageListenerContainer(
-		ChatMessageSubscriber chatMessageSubscriber) {  // 의존성 주입 추가
-
+	public RedisMessageListenerContainer redisMessageListenerContainer() {
 		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
 		container.setConnectionFactory(redisConnectionFactory);
-
-		container.addMessageListener(chatMessageSubscriber,
-			new PatternTopic("chat:channel:*"));
-
 		return container;
 	}
 }
@@ -1,5 +1,6 @@
 package org.bbagisix.common.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
 
@@ -28,11 +29,16 @@ import org.springframework.scheduling.TaskScheduler;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 import org.springframework.stereotype.Controller;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.web.client.RestTemplate;
 
 import javax.sql.DataSource;
 
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneId;
 import java.util.Properties;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -157,8 +163,11 @@ public class RootConfig {
 		HikariConfig config = new HikariConfig();
 
 		// 환경 변수를 사용하여 JDBC URL 구성 (SSL 및 공개키 검색 옵션 추가)
-		String jdbcUrl = String.format("jdbc:log4jdbc:mysql://%s:%s/%s?useSSL=false&allowPublicKeyRetrieval=true",
-			dbHost, dbPort, dbName);
+		// 세션 시간대를 JVM 시간대로 고정 - DATE()/CURDATE()로 만든 날짜(롤업 키, 오늘 조건)와
+		// 자바에서 ZoneId.systemDefault()로 계산한 날짜 경계가 같아지도록 함
+		String timeZone = URLEncoder.encode(ZoneId.systemDefault().getId(), StandardCharsets.UTF_8);
+		String jdbcUrl = String.format("jdbc:log4jdbc:mysql://%s:%s/%s?useSSL=false&allowPublicKeyRetrieval=true"
+			+ "&connectionTimeZone=%s&forceConnectionTimeZoneToSession=true", dbHost, dbPort, dbName, timeZone);
 
 		config.setDriverClassName(driver);
 		config.setJdbcUrl(jdbcUrl);
@@ -212,6 +221,18 @@ public class RootConfig {
 		return new DataSourceTransactionManager(dataSource());
 	}
 
+	// 커서 조회, 계좌별 커밋 등 범위를 코드로 지정해야 하는 트랜잭션용
+	@Bean
+	public TransactionTemplate transactionTemplate() {
+		return new TransactionTemplate(transactionManager());
+	}
+
+	// MVC JSON 변환기(ServletConfig)와 같은 인스턴스 - 직접 JSON을 쓰는 스트리밍/내보내기도 같은 형식으로 응답
+	@Bean
+	public ObjectMapper objectMapper() {
+		return Jackson2ObjectMapperBuilder.json().build();
+	}
+
 	@Bean
 	public RestTemplate restTemplate() {
 		return new RestTemplate();
@@ -220,7 +241,7 @@ public class RootConfig {
 	@Bean
 	public TaskScheduler taskScheduler() {
 		ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
-		scheduler.setPoolSize(2);
+		scheduler.setPoolSize(4);    // 일일 배치 + 채팅 주기 작업(하트비트, 접속 변경 병합 등)
 		scheduler.setThreadNamePrefix("scheduler-");
 		scheduler.setWaitForTasksToCompleteOnShutdown(true);
 		scheduler.setAwaitTerminationSeconds(20);
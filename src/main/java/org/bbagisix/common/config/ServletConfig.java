@@ -1,13 +1,20 @@
 package org.bbagisix.common.config;
 
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Import;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.multipart.MultipartResolver;
 import org.springframework.web.multipart.support.StandardServletMultipartResolver;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.EnableWebMvc;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
@@ -16,6 +23,8 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 import org.springframework.web.servlet.view.InternalResourceViewResolver;
 import org.springframework.web.servlet.view.JstlView;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 @EnableWebMvc // FrontController (DispatcherServlet)
 @Configuration
 @ComponentScan(basePackages = "org.bbagisix", // 스캔 범위를 최상위로 넓힘
@@ -25,6 +34,19 @@ import org.springframework.web.servlet.view.JstlView;
 			Controller.class, ControllerAdvice.class})})
 public class ServletConfig implements WebMvcConfigurer {
 
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	// 기본 JSON 변환기가 공용 ObjectMapper(RootConfig)를 쓰도록 해 직접 JSON을 쓰는 응답과 형식을 맞춤
+	@Override
+	public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+		for (HttpMessageConverter<?> converter : converters) {
+			if (converter instanceof MappingJackson2HttpMessageConverter) {
+				((MappingJackson2HttpMessageConverter)converter).setObjectMapper(objectMapper);
+			}
+		}
+	}
+
 	@Override
 	public void addResourceHandlers(ResourceHandlerRegistry registry) {
 		registry.addResourceHandler("/resources/**") // url이 /resources/로 시작하는 모든 경로 (정작 파일 등록)
@@ -44,6 +66,23 @@ public class ServletConfig implements WebMvcConfigurer {
 		registry.viewResolver(bean);
 	}
 
+	// StreamingResponseBody(소비내역 스트리밍/내보내기)는 요청 스레드 밖에서 쓰므로 전용 풀 + 넉넉한 타임아웃
+	@Override
+	public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+		configurer.setTaskExecutor(mvcAsyncExecutor());
+		configurer.setDefaultTimeout(10 * 60 * 1000L);
+	}
+
+	@Bean
+	public ThreadPoolTaskExecutor mvcAsyncExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(4);
+		executor.setMaxPoolSize(16);
+		executor.setQueueCapacity(50);
+		executor.setThreadNamePrefix("mvc-async-");
+		return executor;
+	}
+
 	@Bean
 	public MultipartResolver multipartResolver() {
 		StandardServletMultipartResolver resolver = new StandardServletMultipartResolver();
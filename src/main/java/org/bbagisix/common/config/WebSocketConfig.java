@@ -1,12 +1,15 @@
 package org.bbagisix.common.config;
 
+import org.bbagisix.chat.interceptior.OutboundBackpressureInterceptor;
 import org.bbagisix.chat.interceptior.WebSocketJwtInterceptor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -21,6 +24,14 @@ import lombok.extern.slf4j.Slf4j;
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
 	private final WebSocketJwtInterceptor webSocketJwtInterceptor;
+	private final OutboundBackpressureInterceptor outboundBackpressureInterceptor;
+
+	@Value("${WS_SEND_TIME_LIMIT_MS:10000}")
+	private int sendTimeLimitMs;             // 세션 하나의 전송이 이 시간을 넘기면 세션 종료
+	@Value("${WS_SEND_BUFFER_SIZE_LIMIT:524288}")
+	private int sendBufferSizeLimit;         // 세션별 미전송 버퍼 한도 (bytes)
+	@Value("${WS_MESSAGE_SIZE_LIMIT:65536}")
+	private int messageSizeLimit;            // 수신 메시지 최대 크기 (bytes)
 
 	@Override
 	public void configureMessageBroker(MessageBrokerRegistry config) {
@@ -50,6 +61,18 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 		log.info("[WebSocketConfig] STOMP 엔드포인트 등록 완료: /api/ws/chat");
 	}
 
+	@Override
+	public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+		// 느린 클라이언트가 아웃바운드 스레드와 메모리를 점유하지 않도록 세션별 전송 한도 설정
+		registration.setSendTimeLimit(sendTimeLimitMs)
+			.setSendBufferSizeLimit(sendBufferSizeLimit)
+			.setMessageSizeLimit(messageSizeLimit)
+			.addDecoratorFactory(outboundBackpressureInterceptor);
+
+		log.info("[WebSocketConfig] 전송 한도 설정 완료: sendTimeLimit={}ms, sendBufferSizeLimit={}, messageSizeLimit={}",
+			sendTimeLimitMs, sendBufferSizeLimit, messageSizeLimit);
+	}
+
 	@Override
 	public void configureClientInboundChannel(ChannelRegistration registration) {
 		// 클라이언트 → 서버 메시지 채널: 인터셉터 추가로 인증 처리
@@ -63,7 +86,8 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
 	@Override
 	public void configureClientOutboundChannel(ChannelRegistration registration) {
-		// 서버에서 클라이언트로 가는 메시지 처리
+		// 서버에서 클라이언트로 가는 메시지 처리: 세션별 대기 수 추적 및 느린 클라이언트 처리
+		registration.interceptors(outboundBackpressureInterceptor);
 		registration.taskExecutor().corePoolSize(4);
 		registration.taskExecutor().maxPoolSize(8);
 		registration.taskExecutor().keepAliveSeconds(60);
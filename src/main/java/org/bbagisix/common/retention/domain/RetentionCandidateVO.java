@@ -0,0 +1,20 @@
+package org.bbagisix.common.retention.domain;
+
+import java.util.Date;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 키 순서로 훑는 정리 대상 후보 (키 + 보존 기준 시각)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RetentionCandidateVO {
+	private Long id;
+	private Date occurredAt;
+}
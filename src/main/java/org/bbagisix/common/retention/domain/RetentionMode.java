@@ -0,0 +1,9 @@
+package org.bbagisix.common.retention.domain;
+
+/**
+ * 보존 기간이 지난 행 처리 방식
+ */
+public enum RetentionMode {
+	ARCHIVE,    // 보관 테이블(*_archive)로 옮긴 후 삭제
+	DELETE      // 바로 삭제
+}
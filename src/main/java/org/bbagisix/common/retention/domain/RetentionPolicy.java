@@ -0,0 +1,10 @@
+package org.bbagisix.common.retention.domain;
+
+/**
+ * 보존 기간 정리 대상 (retention_progress.policy)
+ */
+public enum RetentionPolicy {
+	CHAT_MESSAGE,           // 보존 기간이 지난 채팅 메시지 (sent_at 기준)
+	DELETED_EXPENDITURE,    // 소프트 삭제 후 보존 기간이 지난 소비내역 (deleted_at 기준)
+	CODEF_ACCESS_TOKEN      // 만료 후 보존 기간이 지난 Codef 토큰 (최신 토큰 제외)
+}
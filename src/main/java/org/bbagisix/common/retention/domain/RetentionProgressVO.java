@@ -0,0 +1,24 @@
+package org.bbagisix.common.retention.domain;
+
+import java.util.Date;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+@Getter
+@Setter
+@ToString
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RetentionProgressVO {
+	private String policy;
+	private Long lastKey;            // 이어서 처리할 위치 (키 순서로 훑는 정책만 사용, 그 외 0)
+	private Long processedTotal;     // 누적 처리 건수
+	private Date lastRunAt;
+	private Date lastCompletedAt;    // 대상이 남지 않을 때까지 끝낸 마지막 시각
+}
@@ -0,0 +1,43 @@
+package org.bbagisix.common.retention.mapper;
+
+import java.util.Date;
+import java.util.List;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.bbagisix.common.retention.domain.RetentionCandidateVO;
+import org.bbagisix.common.retention.domain.RetentionProgressVO;
+
+/**
+ * 보존 기간 정리 (청크 단위 조회/보관/삭제 + 정책별 진행 위치)
+ */
+@Mapper
+public interface RetentionMapper {
+
+	RetentionProgressVO findProgress(@Param("policy") String policy);
+
+	int saveProgress(@Param("policy") String policy,
+		@Param("lastKey") Long lastKey,
+		@Param("processed") int processed,
+		@Param("completed") boolean completed);
+
+	// 채팅: message_id 순서로 afterId 다음 limit건 (PK 범위 조회, 보존 기준 판단은 서비스에서)
+	List<RetentionCandidateVO> findChatMessagesAfter(@Param("afterId") Long afterId, @Param("limit") int limit);
+
+	int archiveChatMessages(@Param("ids") List<Long> ids);
+
+	int deleteChatMessages(@Param("ids") List<Long> ids);
+
+	// 소프트 삭제 소비내역: deleted_at이 cutoff 이전인 행을 삭제 시각 순으로 limit건
+	List<Long> findDeletedExpenditureIds(@Param("cutoff") Date cutoff, @Param("limit") int limit);
+
+	// 물리 삭제로 사라지는 삭제 변경분보다 오래된 변경 동기화 토큰은 재동기화하도록 reset_version 상향
+	int raiseResetVersions(@Param("ids") List<Long> ids);
+
+	int archiveExpenditures(@Param("ids") List<Long> ids);
+
+	int deleteExpenditures(@Param("ids") List<Long> ids);
+
+	// Codef 토큰: 만료 시각이 cutoff 이전인 토큰 (현재 토큰 제외) limit건 삭제
+	int deleteExpiredAccessTokens(@Param("cutoff") Date cutoff, @Param("limit") int limit);
+}
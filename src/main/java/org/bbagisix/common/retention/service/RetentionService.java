@@ -0,0 +1,255 @@
+package org.bbagisix.common.retention.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.bbagisix.common.retention.domain.RetentionCandidateVO;
+import org.bbagisix.common.retention.domain.RetentionMode;
+import org.bbagisix.common.retention.domain.RetentionPolicy;
+import org.bbagisix.common.retention.domain.RetentionProgressVO;
+import org.bbagisix.common.retention.mapper.RetentionMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.AllArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * 보존 기간 정리 (채팅 메시지, 소프트 삭제된 소비내역, 지난 Codef 토큰)
+ * - 청크 단위 트랜잭션: 청크 하나의 보관/삭제와 진행 위치 기록을 함께 커밋해 중단 지점부터 이어서 처리
+ * - 청크 사이 대기로 잠금 점유/복제 지연을 제한하고, 사용량이 적은 시간 창 안에서만 진행
+ * - 여러 서버에서 동시에 돌지 않도록 Redis 잠금 (획득 실패 시 이번 실행 생략)
+ */
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class RetentionService {
+
+	private static final String LOCK_KEY = "retention:lock";
+	private static final Duration LOCK_TTL = Duration.ofHours(6);    // 시간 창보다 길게 (비정상 종료 시 자동 해제)
+
+	private final RetentionMapper retentionMapper;
+	private final TransactionTemplate transactionTemplate;
+	private final StringRedisTemplate stringRedisTemplate;
+
+	@Value("${RETENTION_ENABLED:false}")
+	private boolean enabled;
+
+	@Value("${RETENTION_CHUNK_SIZE:1000}")
+	private int chunkSize;
+
+	@Value("${RETENTION_CHUNK_PAUSE_MS:200}")
+	private long chunkPauseMs;
+
+	@Value("${RETENTION_WINDOW_START_HOUR:3}")
+	private int windowStartHour;
+
+	@Value("${RETENTION_WINDOW_END_HOUR:6}")
+	private int windowEndHour;    // 이 시각이 되면 멈추고 다음 실행에서 이어서 처리
+
+	@Value("${RETENTION_CHAT_DAYS:365}")
+	private int chatDays;
+
+	@Value("${RETENTION_CHAT_MODE:ARCHIVE}")
+	private RetentionMode chatMode;
+
+	@Value("${RETENTION_DELETED_EXPENSE_DAYS:90}")
+	private int deletedExpenseDays;
+
+	@Value("${RETENTION_DELETED_EXPENSE_MODE:ARCHIVE}")
+	private RetentionMode deletedExpenseMode;
+
+	@Value("${RETENTION_TOKEN_DAYS:7}")
+	private int tokenDays;
+
+	// 매일 새벽 3시 (시간 창 시작)
+	@Scheduled(cron = "${RETENTION_CRON:0 0 3 * * *}")
+	public void runScheduled() {
+		if (!enabled) {
+			return;
+		}
+		run();
+	}
+
+	/**
+	 * 전체 정책 실행
+	 * @return 정책별 이번 실행 처리 건수 (잠금 획득 실패 시 빈 결과)
+	 */
+	public Map<RetentionPolicy, Long> run() {
+		Map<RetentionPolicy, Long> report = new EnumMap<>(RetentionPolicy.class);
+		String owner = UUID.randomUUID().toString();
+		if (!acquireLock(owner)) {
+			log.info("보존 기간 정리 생략: 다른 서버에서 실행 중");
+			return report;
+		}
+
+		try {
+			report.put(RetentionPolicy.CHAT_MESSAGE,
+				purge(RetentionPolicy.CHAT_MESSAGE, afterId -> purgeChatChunk(afterId, cutoff(chatDays))));
+			report.put(RetentionPolicy.DELETED_EXPENDITURE,
+				purge(RetentionPolicy.DELETED_EXPENDITURE,
+					afterId -> purgeDeletedExpenseChunk(cutoff(deletedExpenseDays))));
+			report.put(RetentionPolicy.CODEF_ACCESS_TOKEN,
+				purge(RetentionPolicy.CODEF_ACCESS_TOKEN, afterId -> purgeAccessTokenChunk(cutoff(tokenDays))));
+			log.info("보존 기간 정리 완료: {}", report);
+			return report;
+		} finally {
+			releaseLock(owner);
+		}
+	}
+
+	/**
+	 * 정책 하나를 청크 단위로 끝까지(또는 시간 창 종료까지) 처리
+	 */
+	private long purge(RetentionPolicy policy, ChunkStep step) {
+		RetentionProgressVO progress = retentionMapper.findProgress(policy.name());
+		long lastKey = progress != null && progress.getLastKey() != null ? progress.getLastKey() : 0L;
+		long processed = 0;
+
+		while (inWindow()) {
+			long from = lastKey;
+			ChunkResult result;
+			try {
+				result = transactionTemplate.execute(status -> {
+					ChunkResult chunk = step.run(from);
+					retentionMapper.saveProgress(policy.name(), chunk.lastKey, chunk.processed, chunk.done);
+					return chunk;
+				});
+			} catch (Exception e) {
+				// 청크 단위로 롤백되므로 다음 정책은 계속, 이 정책은 다음 실행에서 같은 위치부터 재시도
+				log.error("보존 기간 정리 실패: policy={}, lastKey={}, error={}", policy, from, e.getMessage(), e);
+				return processed;
+			}
+
+			processed += result.processed;
+			lastKey = result.lastKey;
+			if (result.done) {
+				log.info("보존 기간 정리: policy={}, processed={}", policy, processed);
+				return processed;
+			}
+			if (!pause()) {
+				break;
+			}
+		}
+
+		log.info("보존 기간 정리 중단 (다음 실행에서 이어서): policy={}, processed={}, lastKey={}",
+			policy, processed, lastKey);
+		return processed;
+	}
+
+	/**
+	 * 채팅은 message_id와 sent_at이 함께 증가하므로 PK 순서로 읽고 보존 기준 이전 구간만 처리
+	 * 기준 이후 메시지를 만나면 끝 (sent_at 인덱스 없이 PK 범위 조회만 사용)
+	 */
+	private ChunkResult purgeChatChunk(long afterId, Date cutoff) {
+		List<RetentionCandidateVO> candidates = retentionMapper.findChatMessagesAfter(afterId, chunkSize);
+		List<Long> ids = new ArrayList<>();
+		for (RetentionCandidateVO candidate : candidates) {
+			if (!candidate.getOccurredAt().before(cutoff)) {
+				break;
+			}
+			ids.add(candidate.getId());
+		}
+
+		if (!ids.isEmpty()) {
+			if (chatMode == RetentionMode.ARCHIVE) {
+				retentionMapper.archiveChatMessages(ids);
+			}
+			retentionMapper.deleteChatMessages(ids);
+		}
+
+		long lastKey = ids.isEmpty() ? afterId : ids.get(ids.size() - 1);
+		return new ChunkResult(ids.size(), lastKey, ids.size() < chunkSize);
+	}
+
+	/**
+	 * 소프트 삭제된 소비내역은 삭제 시각 순으로 처리 (처리한 행이 빠지므로 진행 위치 불필요)
+	 * 삭제 변경분이 사라지므로 해당 사용자의 오래된 변경 동기화 토큰은 재동기화하도록 함
+	 * 롤업/조회 캐시는 소프트 삭제 시점에 이미 반영되어 변경 없음
+	 */
+	private ChunkResult purgeDeletedExpenseChunk(Date cutoff) {
+		List<Long> ids = retentionMapper.findDeletedExpenditureIds(cutoff, chunkSize);
+		if (!ids.isEmpty()) {
+			retentionMapper.raiseResetVersions(ids);
+			if (deletedExpenseMode == RetentionMode.ARCHIVE) {
+				retentionMapper.archiveExpenditures(ids);
+			}
+			retentionMapper.deleteExpenditures(ids);
+		}
+		return new ChunkResult(ids.size(), 0L, ids.size() < chunkSize);
+	}
+
+	private ChunkResult purgeAccessTokenChunk(Date cutoff) {
+		int deleted = retentionMapper.deleteExpiredAccessTokens(cutoff, chunkSize);
+		return new ChunkResult(deleted, 0L, deleted < chunkSize);
+	}
+
+	private Date cutoff(int days) {
+		return Date.from(LocalDateTime.now().minusDays(days).atZone(ZoneId.systemDefault()).toInstant());
+	}
+
+	// 시작 시각 > 종료 시각이면 자정을 넘는 시간 창 (예: 23시 ~ 5시)
+	private boolean inWindow() {
+		int hour = LocalTime.now().getHour();
+		if (windowStartHour <= windowEndHour) {
+			return hour >= windowStartHour && hour < windowEndHour;
+		}
+		return hour >= windowStartHour || hour < windowEndHour;
+	}
+
+	private boolean pause() {
+		if (chunkPauseMs <= 0) {
+			return true;
+		}
+		try {
+			Thread.sleep(chunkPauseMs);
+			return true;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+
+	private boolean acquireLock(String owner) {
+		try {
+			return Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(LOCK_KEY, owner, LOCK_TTL));
+		} catch (Exception e) {
+			log.warn("보존 기간 정리 잠금 획득 실패: error={}", e.getMessage());
+			return false;
+		}
+	}
+
+	private void releaseLock(String owner) {
+		try {
+			if (owner.equals(stringRedisTemplate.opsForValue().get(LOCK_KEY))) {
+				stringRedisTemplate.delete(LOCK_KEY);
+			}
+		} catch (Exception e) {
+			log.warn("보존 기간 정리 잠금 해제 실패: error={}", e.getMessage());
+		}
+	}
+
+	@FunctionalInterface
+	private interface ChunkStep {
+		ChunkResult run(long afterKey);
+	}
+
+	@AllArgsConstructor
+	private static class ChunkResult {
+		private final int processed;
+		private final long lastKey;
+		private final boolean done;    // 남은 대상 없음
+	}
+}
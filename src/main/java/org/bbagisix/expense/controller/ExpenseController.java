@@ -1,13 +1,33 @@
 package org.bbagisix.expense.controller;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.List;
 import java.util.Map;
+import java.util.zip.GZIPOutputStream;
 
 import org.bbagisix.category.dto.CategoryDTO;
 import org.bbagisix.category.service.CategoryService;
+import org.bbagisix.common.exception.BusinessException;
+import org.bbagisix.common.exception.ErrorCode;
+import org.bbagisix.expense.dto.ExpenseChangesDTO;
 import org.bbagisix.expense.dto.ExpenseDTO;
+import org.bbagisix.expense.dto.ExpenseImportReportDTO;
+import org.bbagisix.expense.dto.ExpensePageDTO;
+import org.bbagisix.expense.dto.ExpenseQuery;
+import org.bbagisix.expense.service.ExpenseExporter;
+import org.bbagisix.expense.service.ExpenseImporter;
 import org.bbagisix.expense.service.ExpenseService;
+import org.bbagisix.expense.service.ExpenseVersionService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -15,12 +35,19 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.security.core.Authentication;
 import org.bbagisix.user.dto.CustomOAuth2User;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 
@@ -31,12 +58,134 @@ import lombok.extern.log4j.Log4j2;
 public class ExpenseController {
 	private final ExpenseService expenseService;
 	private final CategoryService categoryService;
+	private final ExpenseExporter expenseExporter;
+	private final ExpenseImporter expenseImporter;
+	private final ExpenseVersionService expenseVersionService;
+	private final ObjectMapper objectMapper;    // MVC 변환기와 같은 인스턴스 (/page, 목록 조회와 같은 날짜 형식)
 
 	@GetMapping
-	public ResponseEntity<List<ExpenseDTO>> getAllExpenses(Authentication authentication) {
+	public ResponseEntity<List<ExpenseDTO>> getAllExpenses(WebRequest webRequest, Authentication authentication) {
 		CustomOAuth2User currentUser = (CustomOAuth2User) authentication.getPrincipal();
+		// 버전은 DB 조회 전에 읽음 (조회 중 변경되면 다음 요청에서 새 ETag)
+		String eTag = dataVersionETag(currentUser.getUserId(), "list");
+		if (eTag != null && webRequest.checkNotModified(eTag)) {
+			return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+		}
 		List<ExpenseDTO> expenses = expenseService.getExpensesByUserId(currentUser.getUserId());
-		return ResponseEntity.ok(expenses);
+		return withETag(ResponseEntity.ok(), eTag).body(expenses);
+	}
+
+	/**
+	 * 소비내역 페이지 조회 (최신순, cursor는 직전 응답의 nextCursor)
+	 */
+	@GetMapping("/page")
+	public ResponseEntity<ExpensePageDTO> getExpensePage(
+		@RequestParam(required = false) String cursor,
+		@RequestParam(required = false) Integer limit,
+		@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+		@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+		@RequestParam(required = false) Long categoryId,
+		Authentication authentication) {
+		CustomOAuth2User currentUser = (CustomOAuth2User) authentication.getPrincipal();
+		ExpenseQuery query = ExpenseQuery.builder()
+			.userId(currentUser.getUserId())
+			.from(from)
+			.to(to)
+			.categoryId(categoryId)
+			.limit(limit)
+			.build();
+		return ResponseEntity.ok(expenseService.getExpensePage(query, cursor));
+	}
+
+	/**
+	 * since 토큰 이후 변경분 (since 없으면 처음부터, 응답의 nextToken을 다음 since로 사용)
+	 */
+	@GetMapping("/changes")
+	public ResponseEntity<ExpenseChangesDTO> getExpenseChanges(
+		@RequestParam(required = false) String since,
+		@RequestParam(required = false) Integer limit,
+		Authentication authentication) {
+		CustomOAuth2User currentUser = (CustomOAuth2User) authentication.getPrincipal();
+		return ResponseEntity.ok(expenseService.getChanges(currentUser.getUserId(), since, limit));
+	}
+
+	/**
+	 * 소비내역 전체를 JSON 배열로 스트리밍 (요청당 메모리 사용량 일정)
+	 */
+	@GetMapping("/stream")
+	public ResponseEntity<StreamingResponseBody> streamExpenses(
+		@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+		@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+		@RequestParam(required = false) Long categoryId,
+		Authentication authentication) {
+		CustomOAuth2User currentUser = (CustomOAuth2User) authentication.getPrincipal();
+		ExpenseQuery query = ExpenseQuery.builder()
+			.userId(currentUser.getUserId())
+			.from(from)
+			.to(to)
+			.categoryId(categoryId)
+			.build();
+
+		ExpenseExporter.DownloadPermit permit = expenseExporter.acquireDownloadPermit();
+		StreamingResponseBody body = outputStream -> {
+			try (permit; JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+				generator.writeStartArray();
+				expenseService.streamExpenses(query, expense -> {
+					try {
+						generator.writeObject(expense);
+					} catch (IOException e) {
+						throw new UncheckedIOException(e);
+					}
+				});
+				generator.writeEndArray();
+			}
+		};
+		return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+	}
+
+	/**
+	 * 소비내역 내보내기 (format=csv|ndjson, 클라이언트가 gzip을 받으면 압축하며 전송)
+	 */
+	@GetMapping("/export")
+	public ResponseEntity<StreamingResponseBody> exportExpenses(
+		@RequestParam(defaultValue = "csv") String format,
+		@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+		@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+		@RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+		Authentication authentication) {
+		CustomOAuth2User currentUser = (CustomOAuth2User) authentication.getPrincipal();
+		ExpenseExporter.Format exportFormat = ExpenseExporter.Format.from(format);
+		ExpenseQuery query = ExpenseQuery.builder()
+			.userId(currentUser.getUserId())
+			.from(from)
+			.to(to)
+			.build();
+		boolean gzip = acceptEncoding != null && acceptEncoding.contains("gzip");
+
+		ExpenseExporter.DownloadPermit permit = expenseExporter.acquireDownloadPermit();
+		StreamingResponseBody body = outputStream -> {
+			try (permit) {
+				if (gzip) {
+					GZIPOutputStream gzipStream = new GZIPOutputStream(outputStream, 8192);
+					expenseExporter.export(query, exportFormat, gzipStream);
+					gzipStream.finish();
+				} else {
+					expenseExporter.export(query, exportFormat, outputStream);
+				}
+			}
+		};
+
+		String filename = "expenses" + (from != null ? "-" + from : "") + (to != null ? "-" + to : "")
+			+ "." + exportFormat.getExtension();
+		ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+			.contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+			.header(HttpHeaders.CONTENT_DISPOSITION,
+				ContentDisposition.attachment().filename(filename, StandardCharsets.UTF_8).build().toString())
+			.header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+		if (gzip) {
+			response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+		}
+		return response.body(body);
 	}
 
 	@PostMapping
@@ -47,6 +196,30 @@ public class ExpenseController {
 		return new ResponseEntity<>(createdExpense, HttpStatus.CREATED);
 	}
 
+	/**
+	 * 소비내역 일괄 가져오기 (JSON 배열), 행별 결과 반환
+	 */
+	@PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+	public ResponseEntity<ExpenseImportReportDTO> importExpenses(@RequestBody List<ExpenseDTO> expenses,
+		Authentication authentication) {
+		CustomOAuth2User currentUser = (CustomOAuth2User) authentication.getPrincipal();
+		return ResponseEntity.ok(expenseImporter.importExpenses(currentUser.getUserId(), expenses));
+	}
+
+	/**
+	 * 소비내역 일괄 가져오기 (CSV 파일 업로드), 행별 결과 반환
+	 */
+	@PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+	public ResponseEntity<ExpenseImportReportDTO> importExpensesCsv(@RequestParam("file") MultipartFile file,
+		Authentication authentication) {
+		CustomOAuth2User currentUser = (CustomOAuth2User) authentication.getPrincipal();
+		try {
+			return ResponseEntity.ok(expenseImporter.importCsv(currentUser.getUserId(), file.getInputStream()));
+		} catch (IOException e) {
+			throw new BusinessException(ErrorCode.INVALID_REQUEST, "CSV 파일을 읽을 수 없습니다.", e);
+		}
+	}
+
 	@GetMapping("/{expenditureId}")
 	public ResponseEntity<ExpenseDTO> getExpenseById(@PathVariable Long expenditureId, Authentication authentication) {
 		CustomOAuth2User currentUser = (CustomOAuth2User) authentication.getPrincipal();
@@ -82,9 +255,30 @@ public class ExpenseController {
 	}
 
 	@GetMapping("/current-month-summary")
-	public ResponseEntity<Map<String, Long>> getCurrentMonthSummary(Authentication authentication) {
+	public ResponseEntity<Map<String, Long>> getCurrentMonthSummary(WebRequest webRequest,
+		Authentication authentication) {
 		CustomOAuth2User currentUser = (CustomOAuth2User) authentication.getPrincipal();
+		// 달이 바뀌면 같은 데이터 버전이어도 집계 구간이 달라지므로 월을 ETag에 포함
+		String eTag = dataVersionETag(currentUser.getUserId(), "summary-" + YearMonth.now());
+		if (eTag != null && webRequest.checkNotModified(eTag)) {
+			return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+		}
 		Map<String, Long> summary = expenseService.getCurrentMonthSummary(currentUser.getUserId());
-		return ResponseEntity.ok(summary);
+		return withETag(ResponseEntity.ok(), eTag).body(summary);
+	}
+
+	/**
+	 * 사용자 데이터 버전(Redis) 기반 강한 ETag, Redis 장애 시 null (조건부 응답 없이 그대로 조회)
+	 */
+	private String dataVersionETag(Long userId, String resource) {
+		Long version = expenseVersionService.getCacheVersion(userId);
+		return version == null ? null : "\"" + userId + "-" + version + "-" + resource + "\"";
+	}
+
+	private ResponseEntity.BodyBuilder withETag(ResponseEntity.BodyBuilder builder, String eTag) {
+		if (eTag == null) {
+			return builder;
+		}
+		return builder.eTag(eTag).cacheControl(CacheControl.noCache().cachePrivate());
 	}
 }
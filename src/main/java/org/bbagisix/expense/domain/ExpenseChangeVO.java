@@ -0,0 +1,21 @@
+package org.bbagisix.expense.domain;
+
+import org.bbagisix.expense.dto.ExpenseDTO;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * 변경 동기화 조회 행 (removed: 삭제되었거나 목록 조건에서 빠진 행)
+ */
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+public class ExpenseChangeVO {
+	private Long changeVersion;
+	private Boolean removed;
+	private ExpenseDTO expense;
+}
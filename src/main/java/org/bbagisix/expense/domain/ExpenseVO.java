@@ -31,5 +31,6 @@ public class ExpenseVO {
 	private Date updatedAt;
 	private Boolean userModified;
 	private String codefTransactionId;
+	private String transactionFingerprint;    // Codef 거래 지문 (직접 입력은 null)
 	private Date deletedAt;
 }
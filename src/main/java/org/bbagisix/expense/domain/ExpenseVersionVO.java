@@ -0,0 +1,20 @@
+package org.bbagisix.expense.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+@Getter
+@Setter
+@ToString
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExpenseVersionVO {
+	private Long userId;
+	private Long version;
+	private Long resetVersion;    // 이 버전보다 오래된 토큰은 전체 재동기화 필요 (물리 삭제 발생 시점)
+}
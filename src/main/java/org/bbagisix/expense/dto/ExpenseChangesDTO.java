@@ -0,0 +1,22 @@
+package org.bbagisix.expense.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExpenseChangesDTO {
+	private List<ExpenseDTO> upserts;    // 추가/수정된 소비내역
+	private List<Long> removedIds;    // 삭제되었거나 목록에서 빠진 소비내역 ID
+	private String nextToken;    // 다음 요청의 since 값
+	private boolean hasMore;    // true면 nextToken으로 바로 이어서 요청
+	private boolean resyncRequired;    // true면 로컬 캐시를 버리고 since 없이 다시 받아야 함
+}
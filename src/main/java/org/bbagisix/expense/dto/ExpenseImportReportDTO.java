@@ -0,0 +1,30 @@
+package org.bbagisix.expense.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExpenseImportReportDTO {
+	private int total;
+	private int imported;
+	private int failed;
+	private List<RowResult> rows;    // 요청 행 순서
+
+	@Getter
+	@Builder
+	@NoArgsConstructor
+	@AllArgsConstructor
+	public static class RowResult {
+		private int row;    // 1부터 시작하는 데이터 행 번호 (CSV 헤더 제외)
+		private boolean success;
+		private Long expenditureId;
+		private String message;
+	}
+}
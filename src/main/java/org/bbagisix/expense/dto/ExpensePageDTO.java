@@ -0,0 +1,20 @@
+package org.bbagisix.expense.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExpensePageDTO {
+	private List<ExpenseDTO> items;
+	private String nextCursor;    // 다음 페이지 요청 시 cursor 파라미터로 전달 (마지막 페이지면 null)
+	private boolean hasNext;
+}
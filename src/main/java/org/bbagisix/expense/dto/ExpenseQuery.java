@@ -0,0 +1,32 @@
+package org.bbagisix.expense.dto;
+
+import java.time.LocalDate;
+import java.util.Date;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * 소비내역 목록 조회 조건 (페이지/스트리밍 공통)
+ */
+@Getter
+@Setter
+@ToString
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExpenseQuery {
+	private Long userId;
+	private LocalDate from;          // 시작일 (포함)
+	private LocalDate to;            // 종료일 (포함)
+	private Long categoryId;
+
+	// keyset 커서: 직전 페이지 마지막 행의 (expenditure_date, expenditure_id)
+	private Date cursorDate;
+	private Long cursorId;
+	private Integer limit;
+}
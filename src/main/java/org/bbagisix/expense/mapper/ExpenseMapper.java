@@ -1,12 +1,17 @@
 package org.bbagisix.expense.mapper;
 
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
 import java.util.Map;
 
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
+import org.bbagisix.expense.domain.ExpenseChangeVO;
 import org.bbagisix.expense.domain.ExpenseVO;
 import org.bbagisix.expense.dto.ExpenseDTO;
+import org.bbagisix.expense.dto.ExpenseQuery;
 
 @Mapper
 public interface ExpenseMapper {
@@ -17,6 +22,18 @@ public interface ExpenseMapper {
 
 	List<ExpenseDTO> findAllByUserIdWithDetails(Long userId);
 
+	// (expenditure_date, expenditure_id) keyset 페이지 조회
+	List<ExpenseDTO> findPageByUserId(ExpenseQuery query);
+
+	// 행 단위 스트리밍 조회 (트랜잭션 안에서 사용)
+	Cursor<ExpenseDTO> streamByUserId(ExpenseQuery query);
+
+	// (change_version, expenditure_id) 이후 변경분 조회
+	List<ExpenseChangeVO> findChanges(@Param("userId") Long userId,
+		@Param("sinceVersion") long sinceVersion,
+		@Param("sinceId") long sinceId,
+		@Param("limit") int limit);
+
 	int update(ExpenseVO expense);
 
 	List<ExpenseVO> getRecentExpenses(Long userId);
@@ -29,11 +46,13 @@ public interface ExpenseMapper {
 
 	int insertExpenses(List<ExpenseVO> expenses);
 
-	// codef 거래 ID로 중복 개수 확인
-	int countByCodefTransactionId(String codefTransactionId);
-
-	// codef 거래 ID로 실제 거래 데이터 조회
-	List<ExpenseVO> findByCodefTransactionId(String codefTransactionId);
+	// Codef 동기화 중복 후보 (지문 일치, 지문 도입 전 거래 ID 일치, [from, to) 기간 직접 입력 행)
+	List<ExpenseVO> findSyncDuplicates(@Param("userId") Long userId,
+		@Param("assetId") Long assetId,
+		@Param("fingerprints") Collection<String> fingerprints,
+		@Param("codefTransactionIds") Collection<String> codefTransactionIds,
+		@Param("from") Date from,
+		@Param("to") Date to);
 
 	// 내역을 물리적 삭제 대신 소프트 삭제
 	int softDelete(Long expenditureId, Long userId);
@@ -0,0 +1,44 @@
+package org.bbagisix.expense.mapper;
+
+import java.util.Date;
+import java.util.List;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.bbagisix.expense.domain.ExpenseVO;
+
+/**
+ * expenditure_daily_rollup (사용자/일자/카테고리별 지출 합계) 유지
+ */
+@Mapper
+public interface ExpenseRollupMapper {
+
+	// 행 단위 증감 반영 (sign: 1 추가, -1 제거)
+	int applyDelta(@Param("userId") Long userId,
+		@Param("categoryId") Long categoryId,
+		@Param("expenditureDate") Date expenditureDate,
+		@Param("amount") Long amount,
+		@Param("sign") int sign);
+
+	// 일괄 추가 반영 (Codef 거래내역 저장 등)
+	int applyInserts(List<ExpenseVO> expenses);
+
+	// 소유자/미삭제 조건으로 수정 전 값 제거 + 수정 후 값 반영 (0이면 대상 행 없음)
+	int applyOwnedUpdate(ExpenseVO after);
+
+	// 소유자/미삭제 조건으로 행 값 제거 (0이면 대상 행 없음)
+	int applyOwnedDelete(@Param("expenditureId") Long expenditureId, @Param("userId") Long userId);
+
+	// 건수가 0이 된 행 정리
+	int deleteEmptyRows(@Param("userId") Long userId);
+
+	int deleteAllEmptyRows();
+
+	// 사용자 집계 재생성
+	int deleteByUserId(@Param("userId") Long userId);
+
+	int rebuildByUserId(@Param("userId") Long userId);
+
+	// 원본과 집계가 어긋난 사용자 조회 (since 이후 일자만 비교)
+	List<Long> findDriftedUserIds(@Param("since") Date since);
+}
@@ -0,0 +1,20 @@
+package org.bbagisix.expense.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.bbagisix.expense.domain.ExpenseVersionVO;
+
+/**
+ * expenditure_change_version (사용자별 소비내역 변경 버전) 관리
+ */
+@Mapper
+public interface ExpenseVersionMapper {
+
+	// 버전 1 증가 (행 잠금은 트랜잭션 종료까지 유지)
+	int increment(@Param("userId") Long userId);
+
+	// 현재 버전 이전 토큰을 전체 재동기화 대상으로 표시
+	int markReset(@Param("userId") Long userId);
+
+	ExpenseVersionVO findByUserId(@Param("userId") Long userId);
+}
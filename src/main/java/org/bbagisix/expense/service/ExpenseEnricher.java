@@ -0,0 +1,83 @@
+package org.bbagisix.expense.service;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.bbagisix.asset.domain.AssetSummaryVO;
+import org.bbagisix.asset.mapper.AssetMapper;
+import org.bbagisix.category.domain.CategoryVO;
+import org.bbagisix.category.service.CategoryDictionary;
+import org.bbagisix.expense.dto.ExpenseDTO;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 소비내역 표시 정보 보강 (카테고리명/아이콘, 계좌명/은행명)
+ * 카테고리는 메모리 사전에서, 계좌는 암호화 컬럼을 뺀 요약 조회로 ID를 모아 한 번에 채움
+ */
+@Component
+@RequiredArgsConstructor
+public class ExpenseEnricher {
+
+	private final CategoryDictionary categoryDictionary;
+	private final AssetMapper assetMapper;
+
+	public ExpenseDTO enrich(ExpenseDTO dto) {
+		if (dto != null) {
+			enrich(Collections.singletonList(dto));
+		}
+		return dto;
+	}
+
+	/**
+	 * 계좌 요약을 이미 알고 있는 경우 (쓰기 응답) - 조회 없이 채움
+	 */
+	public ExpenseDTO enrich(ExpenseDTO dto, AssetSummaryVO asset) {
+		CategoryVO category = categoryDictionary.get(dto.getCategoryId());
+		if (category != null) {
+			dto.setCategoryName(category.getName());
+			dto.setCategoryIcon(category.getIcon());
+		}
+		if (asset != null) {
+			dto.setAssetName(asset.getAssetName());
+			dto.setBankName(asset.getBankName());
+		}
+		return dto;
+	}
+
+	public List<ExpenseDTO> enrich(List<ExpenseDTO> dtos) {
+		if (dtos == null || dtos.isEmpty()) {
+			return dtos;
+		}
+
+		Set<Long> assetIds = dtos.stream()
+			.map(ExpenseDTO::getAssetId)
+			.filter(Objects::nonNull)
+			.collect(Collectors.toSet());
+		Map<Long, AssetSummaryVO> assets = assetIds.isEmpty()
+			? Collections.emptyMap()
+			: assetMapper.selectAssetSummariesByIds(assetIds).stream()
+				.collect(Collectors.toMap(AssetSummaryVO::getAssetId, Function.identity()));
+
+		for (ExpenseDTO dto : dtos) {
+			CategoryVO category = categoryDictionary.get(dto.getCategoryId());
+			if (category != null) {
+				dto.setCategoryName(category.getName());
+				dto.setCategoryIcon(category.getIcon());
+			}
+
+			AssetSummaryVO asset = dto.getAssetId() != null ? assets.get(dto.getAssetId()) : null;
+			if (asset != null) {
+				dto.setAssetName(asset.getAssetName());
+				dto.setBankName(asset.getBankName());
+			}
+		}
+		return dtos;
+	}
+}
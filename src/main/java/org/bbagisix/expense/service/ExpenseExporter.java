@@ -0,0 +1,197 @@
+package org.bbagisix.expense.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Locale;
+import java.util.TimeZone;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.annotation.PostConstruct;
+
+import org.bbagisix.common.exception.BusinessException;
+import org.bbagisix.common.exception.ErrorCode;
+import org.bbagisix.expense.dto.ExpenseDTO;
+import org.bbagisix.expense.dto.ExpenseQuery;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * 소비내역 내보내기 (CSV / NDJSON)
+ * streamExpenses 커서에서 읽은 행을 바로 출력 스트림에 씀 - 기간과 무관하게 메모리 사용량 일정
+ * 커서가 다운로드 내내 DB 커넥션을 잡으므로 동시 다운로드 수를 커넥션 풀(10)보다 작게 제한
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class ExpenseExporter {
+
+	private static final String[] CSV_HEADER = {"거래일시", "카테고리", "금액", "내용", "계좌", "은행", "직접수정"};
+	private static final byte[] UTF8_BOM = {(byte)0xEF, (byte)0xBB, (byte)0xBF};
+
+	private static final int MAX_CONCURRENT_DOWNLOADS = 4;
+
+	private final ExpenseService expenseService;
+	private final ObjectMapper objectMapper;    // MVC 변환기와 같은 인스턴스 (조회 API와 같은 날짜 형식)
+
+	@Value("${EXPENSE_DOWNLOAD_MAX_CONCURRENT:3}")
+	private int maxConcurrentDownloads;
+
+	private Semaphore downloadPermits;
+
+	@PostConstruct
+	public void initialize() {
+		downloadPermits = new Semaphore(Math.max(1, Math.min(maxConcurrentDownloads, MAX_CONCURRENT_DOWNLOADS)));
+	}
+
+	@Getter
+	@RequiredArgsConstructor
+	public enum Format {
+		CSV("text/csv;charset=UTF-8", "csv"),
+		NDJSON("application/x-ndjson", "ndjson");
+
+		private final String contentType;
+		private final String extension;
+
+		public static Format from(String value) {
+			for (Format format : values()) {
+				if (format.name().equalsIgnoreCase(value)) {
+					return format;
+				}
+			}
+			throw new BusinessException(ErrorCode.INVALID_REQUEST, "지원하지 않는 내보내기 형식입니다: " + value);
+		}
+	}
+
+	/**
+	 * 커서를 여는 다운로드(내보내기, /stream) 시작 전 자리 확보, 다운로드가 끝나면 반드시 닫아야 함
+	 * @throws BusinessException 동시 다운로드 수 초과 (503)
+	 */
+	public DownloadPermit acquireDownloadPermit() {
+		if (!downloadPermits.tryAcquire()) {
+			throw new BusinessException(ErrorCode.SERVICE_UNVALIABLE,
+				"진행 중인 다운로드가 많습니다. 잠시 후 다시 시도해주세요.");
+		}
+		return new DownloadPermit();
+	}
+
+	/**
+	 * 조건에 맞는 소비내역을 out에 기록 (out은 닫지 않음)
+	 */
+	public long export(ExpenseQuery query, Format format, OutputStream out) throws IOException {
+		long rows = format == Format.CSV ? writeCsv(query, out) : writeNdjson(query, out);
+		log.info("소비내역 내보내기 완료: userId={}, format={}, rows={}", query.getUserId(), format, rows);
+		return rows;
+	}
+
+	private long writeCsv(ExpenseQuery query, OutputStream out) throws IOException {
+		// 엑셀에서 한글이 깨지지 않도록 BOM 추가
+		out.write(UTF8_BOM);
+		Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+		SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss", Locale.KOREA);
+		dateFormat.setTimeZone(TimeZone.getTimeZone("Asia/Seoul"));
+
+		writeCsvRow(writer, CSV_HEADER);
+		long[] count = {0};
+		expenseService.streamExpenses(query, expense -> {
+			try {
+				writeCsvRow(writer, toCsvColumns(expense, dateFormat));
+				count[0]++;
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		});
+		writer.flush();
+		return count[0];
+	}
+
+	private long writeNdjson(ExpenseQuery query, OutputStream out) throws IOException {
+		JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+		generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+		long[] count = {0};
+		expenseService.streamExpenses(query, expense -> {
+			try {
+				generator.writeObject(expense);
+				generator.writeRaw('\n');
+				count[0]++;
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		});
+		generator.flush();
+		return count[0];
+	}
+
+	private String[] toCsvColumns(ExpenseDTO expense, SimpleDateFormat dateFormat) {
+		Date expenditureDate = expense.getExpenditureDate();
+		return new String[] {
+			expenditureDate != null ? dateFormat.format(expenditureDate) : "",
+			expense.getCategoryName(),
+			expense.getAmount() != null ? String.valueOf(expense.getAmount()) : "",
+			expense.getDescription(),
+			expense.getAssetName(),
+			expense.getBankName(),
+			Boolean.TRUE.equals(expense.getUserModified()) ? "Y" : "N"
+		};
+	}
+
+	private void writeCsvRow(Writer writer, String[] columns) throws IOException {
+		for (int i = 0; i < columns.length; i++) {
+			if (i > 0) {
+				writer.write(',');
+			}
+			writer.write(escapeCsv(columns[i]));
+		}
+		writer.write("\r\n");
+	}
+
+	/**
+	 * RFC 4180 따옴표 처리 + 스프레드시트 수식으로 해석되는 값(=, +, -, @ 시작) 무력화
+	 */
+	private String escapeCsv(String value) {
+		if (value == null || value.isEmpty()) {
+			return "";
+		}
+		char first = value.charAt(0);
+		if ((first == '=' || first == '+' || first == '-' || first == '@') && !isNumber(value)) {
+			value = "'" + value;
+		}
+		if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+			|| value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+			return '"' + value.replace("\"", "\"\"") + '"';
+		}
+		return value;
+	}
+
+	private boolean isNumber(String value) {
+		return value.matches("-?\\d+");
+	}
+
+	/**
+	 * 다운로드 자리, 여러 번 닫아도 한 번만 반환
+	 */
+	public class DownloadPermit implements AutoCloseable {
+		private final AtomicBoolean released = new AtomicBoolean(false);
+
+		@Override
+		public void close() {
+			if (released.compareAndSet(false, true)) {
+				downloadPermits.release();
+			}
+		}
+	}
+}
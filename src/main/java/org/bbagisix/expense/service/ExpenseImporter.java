@@ -0,0 +1,350 @@
+package org.bbagisix.expense.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.bbagisix.asset.domain.AssetSummaryVO;
+import org.bbagisix.asset.mapper.AssetMapper;
+import org.bbagisix.category.domain.CategoryVO;
+import org.bbagisix.category.service.CategoryDictionary;
+import org.bbagisix.classify.service.ClassifyService;
+import org.bbagisix.common.exception.BusinessException;
+import org.bbagisix.common.exception.ErrorCode;
+import org.bbagisix.expense.domain.ExpenseVO;
+import org.bbagisix.expense.dto.ExpenseDTO;
+import org.bbagisix.expense.dto.ExpenseImportReportDTO;
+import org.bbagisix.expense.mapper.ExpenseMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * 소비내역 일괄 가져오기 (JSON 배열 / CSV)
+ * main 계좌 1회 조회 → 메모리 검증 → 분류 1회 요청 → BATCH 실행기로 청크 단위 저장
+ * 청크마다 트랜잭션을 나눠 실패한 청크만 실패로 보고하고 나머지는 계속 저장
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class ExpenseImporter {
+
+	private static final long UNCLASSIFIED_CATEGORY_ID = 14L;    // ClassifyService 분류 대상 카테고리
+	private static final int MAX_DESCRIPTION_LENGTH = 255;
+	private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");    // ExpenseDTO 날짜 형식과 동일한 기준
+	private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm[:ss]");
+
+	private final SqlSessionFactory sqlSessionFactory;
+	private final TransactionTemplate transactionTemplate;
+	private final AssetMapper assetMapper;
+	private final CategoryDictionary categoryDictionary;
+	private final ClassifyService classifyService;
+	private final ExpenseRollupService expenseRollupService;
+	private final ExpenseVersionService expenseVersionService;
+
+	@Value("${EXPENSE_IMPORT_MAX_ROWS:5000}")
+	private int maxRows;
+
+	@Value("${EXPENSE_IMPORT_BATCH_SIZE:500}")
+	private int batchSize;
+
+	public ExpenseImportReportDTO importExpenses(Long userId, List<ExpenseDTO> expenses) {
+		if (expenses == null || expenses.isEmpty()) {
+			throw new BusinessException(ErrorCode.INVALID_REQUEST, "가져올 소비내역이 없습니다.");
+		}
+		checkRowLimit(expenses.size());
+
+		List<ImportRow> rows = new ArrayList<>(expenses.size());
+		for (int i = 0; i < expenses.size(); i++) {
+			ImportRow row = new ImportRow(i + 1);
+			ExpenseDTO dto = expenses.get(i);
+			if (dto == null) {
+				row.fail("빈 행입니다.");
+			} else {
+				validate(row, dto.getExpenditureDate(), dto.getCategoryId(), dto.getAmount(), dto.getDescription());
+			}
+			rows.add(row);
+		}
+		return importRows(userId, rows);
+	}
+
+	/**
+	 * CSV 컬럼: 거래일시(yyyy-MM-dd HH:mm[:ss] 또는 yyyy-MM-dd), 카테고리명(비우면 자동 분류), 금액, 내용
+	 * 내보내기(ExpenseExporter) 파일을 그대로 다시 가져올 수 있도록 헤더 행과 뒤쪽 추가 컬럼은 무시
+	 */
+	public ExpenseImportReportDTO importCsv(Long userId, InputStream in) throws IOException {
+		List<ImportRow> rows = new ArrayList<>();
+		try (Reader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+			List<String> record;
+			boolean first = true;
+			while ((record = readRecord(reader)) != null) {
+				if (first) {
+					first = false;
+					stripBom(record);
+					if (parseDate(record.get(0)) == null) {
+						continue;    // 헤더 행
+					}
+				}
+				if (record.size() == 1 && record.get(0).isBlank()) {
+					continue;
+				}
+				checkRowLimit(rows.size() + 1);
+
+				ImportRow row = new ImportRow(rows.size() + 1);
+				rows.add(row);
+				if (record.size() < 4) {
+					row.fail("컬럼 수가 부족합니다. (거래일시, 카테고리, 금액, 내용)");
+					continue;
+				}
+				validateCsv(row, record);
+			}
+		}
+		if (rows.isEmpty()) {
+			throw new BusinessException(ErrorCode.INVALID_REQUEST, "가져올 소비내역이 없습니다.");
+		}
+		return importRows(userId, rows);
+	}
+
+	private ExpenseImportReportDTO importRows(Long userId, List<ImportRow> rows) {
+		AssetSummaryVO mainAsset = assetMapper.selectAssetSummaryByUserIdAndStatus(userId, "main");
+		if (mainAsset == null) {
+			throw new BusinessException(ErrorCode.ASSET_NOT_FOUND, "main 계좌가 연결되지 않았습니다.");
+		}
+
+		List<ImportRow> valid = rows.stream().filter(row -> row.expense != null).collect(Collectors.toList());
+		for (ImportRow row : valid) {
+			row.expense.setUserId(userId);
+			row.expense.setAssetId(mainAsset.getAssetId());
+		}
+		classify(valid);
+
+		for (int from = 0; from < valid.size(); from += batchSize) {
+			insertChunk(valid.subList(from, Math.min(from + batchSize, valid.size())));
+		}
+
+		List<ExpenseImportReportDTO.RowResult> results = rows.stream()
+			.map(ImportRow::toResult)
+			.collect(Collectors.toList());
+		int imported = (int)results.stream().filter(ExpenseImportReportDTO.RowResult::isSuccess).count();
+		log.info("소비내역 가져오기 완료: userId={}, total={}, imported={}", userId, rows.size(), imported);
+		return ExpenseImportReportDTO.builder()
+			.total(rows.size())
+			.imported(imported)
+			.failed(rows.size() - imported)
+			.rows(results)
+			.build();
+	}
+
+	// 카테고리 미지정 행만 분류 서버에 한 번에 요청, 실패 시 미분류로 저장
+	private void classify(List<ImportRow> rows) {
+		List<ExpenseVO> targets = rows.stream()
+			.map(row -> row.expense)
+			.filter(expense -> expense.getCategoryId() == UNCLASSIFIED_CATEGORY_ID)
+			.collect(Collectors.toList());
+		if (targets.isEmpty()) {
+			return;
+		}
+		try {
+			classifyService.classify(targets);
+		} catch (Exception e) {
+			log.warn("가져오기 분류 실패, 미분류로 저장: count={}, error={}", targets.size(), e.getMessage());
+		}
+		// 분류 요청용 임시 ID 제거
+		targets.forEach(expense -> expense.setExpenditureId(null));
+	}
+
+	private void insertChunk(List<ImportRow> chunk) {
+		List<ExpenseVO> expenses = chunk.stream().map(row -> row.expense).collect(Collectors.toList());
+		try {
+			transactionTemplate.executeWithoutResult(status -> {
+				expenseVersionService.recordChange(expenses.get(0).getUserId());
+				// 같은 트랜잭션 커넥션을 쓰는 BATCH 세션 (커밋/롤백은 TransactionTemplate이 담당)
+				try (SqlSession batchSession = sqlSessionFactory.openSession(ExecutorType.BATCH)) {
+					ExpenseMapper batchMapper = batchSession.getMapper(ExpenseMapper.class);
+					expenses.forEach(batchMapper::insert);
+					batchSession.flushStatements();
+				}
+				expenseRollupService.recordInserts(expenses);
+			});
+			chunk.forEach(row -> row.succeed(row.expense.getExpenditureId()));
+		} catch (Exception e) {
+			log.error("소비내역 가져오기 청크 저장 실패: size={}, error={}", chunk.size(), e.getMessage(), e);
+			chunk.forEach(row -> row.fail("저장에 실패했습니다."));
+		}
+	}
+
+	private void validateCsv(ImportRow row, List<String> record) {
+		Date expenditureDate = parseDate(record.get(0));
+		if (expenditureDate == null) {
+			row.fail("거래일시 형식이 올바르지 않습니다: " + record.get(0));
+			return;
+		}
+
+		Long categoryId = null;
+		String categoryName = unescape(record.get(1)).trim();
+		if (!categoryName.isEmpty()) {
+			CategoryVO category = categoryDictionary.findByName(categoryName);
+			if (category == null) {
+				row.fail("존재하지 않는 카테고리입니다: " + categoryName);
+				return;
+			}
+			categoryId = category.getCategoryId();
+		}
+
+		Long amount;
+		try {
+			amount = Long.parseLong(record.get(2).replace(",", "").trim());
+		} catch (NumberFormatException e) {
+			row.fail("금액 형식이 올바르지 않습니다: " + record.get(2));
+			return;
+		}
+
+		validate(row, expenditureDate, categoryId, amount, unescape(record.get(3)));
+	}
+
+	private void validate(ImportRow row, Date expenditureDate, Long categoryId, Long amount, String description) {
+		if (expenditureDate == null) {
+			row.fail("거래일시는 필수입니다.");
+		} else if (amount == null || amount <= 0) {
+			row.fail("금액은 0보다 커야 합니다.");
+		} else if (description == null || description.isBlank()) {
+			row.fail("내용은 필수입니다.");
+		} else if (description.length() > MAX_DESCRIPTION_LENGTH) {
+			row.fail("내용은 " + MAX_DESCRIPTION_LENGTH + "자를 넘을 수 없습니다.");
+		} else if (categoryId != null && categoryDictionary.get(categoryId) == null) {
+			row.fail("존재하지 않는 카테고리입니다: " + categoryId);
+		} else {
+			row.expense = ExpenseVO.builder()
+				.categoryId(categoryId != null ? categoryId : UNCLASSIFIED_CATEGORY_ID)
+				.amount(amount)
+				.description(description.trim())
+				.expenditureDate(expenditureDate)
+				.userModified(true)
+				.build();
+		}
+	}
+
+	private void checkRowLimit(int size) {
+		if (size > maxRows) {
+			throw new BusinessException(ErrorCode.INVALID_REQUEST, "한 번에 최대 " + maxRows + "건까지 가져올 수 있습니다.");
+		}
+	}
+
+	private Date parseDate(String value) {
+		String text = value.trim();
+		try {
+			if (text.length() == 10) {
+				return Date.from(LocalDate.parse(text).atStartOfDay(ZONE).toInstant());
+			}
+			return Date.from(LocalDateTime.parse(text, DATE_TIME).atZone(ZONE).toInstant());
+		} catch (DateTimeParseException e) {
+			return null;
+		}
+	}
+
+	// 내보내기에서 수식 방지용으로 붙인 작은따옴표 제거
+	private String unescape(String value) {
+		if (value.length() > 1 && value.charAt(0) == '\'' && "=+-@".indexOf(value.charAt(1)) >= 0) {
+			return value.substring(1);
+		}
+		return value;
+	}
+
+	private void stripBom(List<String> record) {
+		String first = record.get(0);
+		if (!first.isEmpty() && first.charAt(0) == '\uFEFF') {
+			record.set(0, first.substring(1));
+		}
+	}
+
+	/**
+	 * RFC 4180 레코드 1건 읽기 (따옴표 안의 쉼표/줄바꿈 허용), 끝이면 null
+	 */
+	private List<String> readRecord(Reader reader) throws IOException {
+		List<String> fields = new ArrayList<>();
+		StringBuilder field = new StringBuilder();
+		boolean quoted = false;
+		boolean read = false;
+		int c;
+		while ((c = reader.read()) != -1) {
+			read = true;
+			if (quoted) {
+				if (c == '"') {
+					reader.mark(1);
+					if (reader.read() == '"') {
+						field.append('"');
+					} else {
+						reader.reset();
+						quoted = false;
+					}
+				} else {
+					field.append((char)c);
+				}
+			} else if (c == '"') {
+				quoted = true;
+			} else if (c == ',') {
+				fields.add(field.toString());
+				field.setLength(0);
+			} else if (c == '\n') {
+				break;
+			} else if (c != '\r') {
+				field.append((char)c);
+			}
+		}
+		if (!read) {
+			return null;
+		}
+		fields.add(field.toString());
+		return fields;
+	}
+
+	private static class ImportRow {
+		private final int rowNumber;
+		private ExpenseVO expense;
+		private boolean success;
+		private Long expenditureId;
+		private String message;
+
+		private ImportRow(int rowNumber) {
+			this.rowNumber = rowNumber;
+		}
+
+		private void fail(String message) {
+			this.expense = null;
+			this.success = false;
+			this.message = message;
+		}
+
+		private void succeed(Long expenditureId) {
+			this.success = true;
+			this.expenditureId = expenditureId;
+		}
+
+		private ExpenseImportReportDTO.RowResult toResult() {
+			return ExpenseImportReportDTO.RowResult.builder()
+				.row(rowNumber)
+				.success(success)
+				.expenditureId(expenditureId)
+				.message(message)
+				.build();
+		}
+	}
+}
@@ -0,0 +1,136 @@
+package org.bbagisix.expense.service;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+import java.util.Objects;
+
+import org.bbagisix.expense.domain.ExpenseVO;
+import org.bbagisix.expense.mapper.ExpenseRollupMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * 일자/카테고리별 지출 합계(expenditure_daily_rollup) 유지
+ * 소비내역 쓰기 경로(생성/수정/삭제/일괄 저장)에서 증감만 반영하고,
+ * 집계 조회(월 요약, 기간 합계, 오늘 카테고리 등)는 원본 대신 롤업을 사용
+ * 반영 누락으로 생긴 차이는 매일 검증 작업이 사용자 단위로 재생성
+ */
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class ExpenseRollupService {
+
+	private static final int ADD = 1;
+	private static final int REMOVE = -1;
+
+	private final ExpenseRollupMapper rollupMapper;
+	private final TransactionTemplate transactionTemplate;
+	private final ExpenseVersionService expenseVersionService;
+
+	@Value("${EXPENSE_ROLLUP_VERIFY_DAYS:35}")
+	private int verifyDays;    // 검증 대상 기간 (당월 요약 + 챌린지 기간 합계를 덮도록)
+
+	public void recordInsert(ExpenseVO expense) {
+		apply(expense, ADD);
+	}
+
+	public void recordInserts(List<ExpenseVO> expenses) {
+		if (expenses == null || expenses.isEmpty()) {
+			return;
+		}
+		rollupMapper.applyInserts(expenses);
+	}
+
+	/**
+	 * 수정 전/후 값이 집계에 영향을 주는 경우에만 반영
+	 */
+	public void recordUpdate(ExpenseVO before, ExpenseVO after) {
+		if (Objects.equals(before.getCategoryId(), after.getCategoryId())
+			&& Objects.equals(before.getAmount(), after.getAmount())
+			&& sameDay(before.getExpenditureDate(), after.getExpenditureDate())) {
+			return;
+		}
+		apply(before, REMOVE);
+		apply(after, ADD);
+		rollupMapper.deleteEmptyRows(before.getUserId());
+	}
+
+	/**
+	 * 사용자 소유 행의 수정 반영 (수정 전 값은 DB에서 읽음, 소비내역 UPDATE 전에 호출)
+	 * @return 사용자 소유의 미삭제 행이 없으면 false
+	 */
+	public boolean recordOwnedUpdate(ExpenseVO after) {
+		return rollupMapper.applyOwnedUpdate(after) > 0;
+	}
+
+	/**
+	 * 사용자 소유 행의 삭제 반영 (소프트 삭제 전에 호출)
+	 * @return 사용자 소유의 미삭제 행이 없으면 false
+	 */
+	public boolean recordOwnedDelete(Long expenditureId, Long userId) {
+		return rollupMapper.applyOwnedDelete(expenditureId, userId) > 0;
+	}
+
+	/**
+	 * 사용자 집계를 원본에서 다시 생성
+	 */
+	public void rebuildUser(Long userId) {
+		transactionTemplate.executeWithoutResult(status -> {
+			rollupMapper.deleteByUserId(userId);
+			rollupMapper.rebuildByUserId(userId);
+		});
+	}
+
+	/**
+	 * 최근 기간의 원본/집계 차이를 찾아 해당 사용자만 재생성
+	 */
+	@Scheduled(cron = "0 30 3 * * *")
+	public void verifyAndRepair() {
+		Date since = Date.from(LocalDate.now().minusDays(verifyDays).atStartOfDay(ZoneId.systemDefault()).toInstant());
+
+		int emptyRows = rollupMapper.deleteAllEmptyRows();
+		log.info("지출 롤업 빈 행 정리: {}건", emptyRows);
+
+		List<Long> driftedUserIds = rollupMapper.findDriftedUserIds(since);
+		if (driftedUserIds.isEmpty()) {
+			log.info("지출 롤업 검증 완료: 차이 없음");
+			return;
+		}
+
+		int repaired = 0;
+		for (Long userId : driftedUserIds) {
+			try {
+				rebuildUser(userId);
+				expenseVersionService.touch(userId);
+				repaired++;
+			} catch (Exception e) {
+				log.error("지출 롤업 재생성 실패: userId={}", userId, e);
+			}
+		}
+		log.warn("지출 롤업 차이 보정: 대상 {}명, 재생성 {}명", driftedUserIds.size(), repaired);
+	}
+
+	private void apply(ExpenseVO expense, int sign) {
+		if (expense.getCategoryId() == null || expense.getExpenditureDate() == null || expense.getAmount() == null) {
+			return;
+		}
+		rollupMapper.applyDelta(expense.getUserId(), expense.getCategoryId(), expense.getExpenditureDate(),
+			expense.getAmount(), sign);
+	}
+
+	// 롤업의 DATE()와 같은 날짜 경계 (DB 세션 시간대는 JVM 시간대로 고정, RootConfig)
+	private boolean sameDay(Date a, Date b) {
+		if (a == null || b == null) {
+			return a == b;
+		}
+		ZoneId zone = ZoneId.systemDefault();
+		return a.toInstant().atZone(zone).toLocalDate().equals(b.toInstant().atZone(zone).toLocalDate());
+	}
+}
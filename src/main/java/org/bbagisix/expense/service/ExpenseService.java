@@ -2,9 +2,13 @@ package org.bbagisix.expense.service;
 
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import org.bbagisix.expense.domain.ExpenseVO;
+import org.bbagisix.expense.dto.ExpenseChangesDTO;
 import org.bbagisix.expense.dto.ExpenseDTO;
+import org.bbagisix.expense.dto.ExpensePageDTO;
+import org.bbagisix.expense.dto.ExpenseQuery;
 
 public interface ExpenseService {
 	ExpenseDTO createExpense(ExpenseDTO expenseDTO);
@@ -13,6 +17,15 @@ public interface ExpenseService {
 
 	List<ExpenseDTO> getExpensesByUserId(Long userId);
 
+	// keyset 페이지 조회 (cursor는 직전 응답의 nextCursor)
+	ExpensePageDTO getExpensePage(ExpenseQuery query, String cursor);
+
+	// 조건에 맞는 소비내역을 한 건씩 전달 (메모리에 모으지 않음)
+	void streamExpenses(ExpenseQuery query, Consumer<ExpenseDTO> consumer);
+
+	// since 토큰 이후 추가/수정/삭제분 (since 없으면 처음부터)
+	ExpenseChangesDTO getChanges(Long userId, String since, Integer limit);
+
 	ExpenseDTO updateExpense(Long expenditureId, ExpenseDTO expenseDTO, Long userId);
 
 	void deleteExpense(Long expenditureId, Long userId);
@@ -1,20 +1,33 @@
 package org.bbagisix.expense.service;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
-import org.bbagisix.asset.domain.AssetVO;
+import org.apache.ibatis.cursor.Cursor;
+
+import org.bbagisix.asset.domain.AssetSummaryVO;
 import org.bbagisix.asset.mapper.AssetMapper;
-import org.bbagisix.category.domain.CategoryVO;
-import org.bbagisix.category.mapper.CategoryMapper;
 import org.bbagisix.common.codef.service.CodefSchedulerService;
+import org.bbagisix.expense.domain.ExpenseChangeVO;
 import org.bbagisix.expense.domain.ExpenseVO;
+import org.bbagisix.expense.domain.ExpenseVersionVO;
+import org.bbagisix.expense.dto.ExpenseChangesDTO;
 import org.bbagisix.expense.dto.ExpenseDTO;
+import org.bbagisix.expense.dto.ExpensePageDTO;
+import org.bbagisix.expense.dto.ExpenseQuery;
 import org.bbagisix.expense.mapper.ExpenseMapper;
 import org.bbagisix.common.exception.BusinessException;
 import org.bbagisix.common.exception.ErrorCode;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
@@ -24,15 +37,24 @@ import lombok.extern.log4j.Log4j2;
 @RequiredArgsConstructor
 public class ExpenseServiceImpl implements ExpenseService {
 	private final ExpenseMapper expenseMapper;
-	private final CategoryMapper categoryMapper;
 	private final AssetMapper assetMapper;
+	private final ExpenseEnricher expenseEnricher;
 	private final CodefSchedulerService codefSchedulerService;
+	private final TransactionTemplate transactionTemplate;
+	private final ExpenseRollupService expenseRollupService;
+	private final ExpenseVersionService expenseVersionService;
+
+	private static final int DEFAULT_PAGE_SIZE = 30;
+	private static final int MAX_PAGE_SIZE = 100;    // 페이지 1회 최대 건수
+	private static final int DEFAULT_CHANGES_SIZE = 500;
+	private static final int MAX_CHANGES_SIZE = 1000;    // 변경 동기화 1회 최대 건수
 
 	@Override
 	public ExpenseDTO createExpense(ExpenseDTO expenseDTO) {
 		try {
 			// 항상 사용자의 main 계좌로 설정
-			AssetVO mainAsset = assetMapper.selectAssetByUserIdAndStatus(expenseDTO.getUserId(), "main");
+			AssetSummaryVO mainAsset = assetMapper.selectAssetSummaryByUserIdAndStatus(expenseDTO.getUserId(),
+				"main");
 			if (mainAsset == null) {
 				throw new BusinessException(ErrorCode.ASSET_NOT_FOUND, "main 계좌가 연결되지 않았습니다.");
 			}
@@ -41,11 +63,15 @@ public class ExpenseServiceImpl implements ExpenseService {
 			ExpenseVO vo = dtoToVo(expenseDTO);
 			// 사용자 직접 생성시 true 설정
 			vo.setUserModified(true);
-			expenseMapper.insert(vo);
-			if (vo.getExpenditureId() == null) {
-				throw new BusinessException(ErrorCode.EXPENSE_CREATE_FAILED);
-			}
-			return voToDto(vo);
+			transactionTemplate.executeWithoutResult(status -> {
+				expenseVersionService.recordChange(vo.getUserId());
+				expenseMapper.insert(vo);
+				if (vo.getExpenditureId() == null) {
+					throw new BusinessException(ErrorCode.EXPENSE_CREATE_FAILED);
+				}
+				expenseRollupService.recordInsert(vo);
+			});
+			return expenseEnricher.enrich(toDto(vo), mainAsset);
 		} catch (BusinessException e) {
 			throw e;
 		} catch (Exception e) {
@@ -85,37 +111,182 @@ public class ExpenseServiceImpl implements ExpenseService {
 	}
 
 	@Override
-	public ExpenseDTO updateExpense(Long expenditureId, ExpenseDTO expenseDTO, Long userId) {
+	public ExpensePageDTO getExpensePage(ExpenseQuery query, String cursor) {
+		int pageSize = query.getLimit() == null || query.getLimit() <= 0
+			? DEFAULT_PAGE_SIZE : Math.min(query.getLimit(), MAX_PAGE_SIZE);
+		decodeCursor(cursor, query);
+		query.setLimit(pageSize + 1);    // 다음 페이지 존재 여부 확인용 1건 추가 조회
+
 		try {
-			ExpenseVO vo = expenseMapper.findById(expenditureId);
-			if (vo == null) {
-				throw new BusinessException(ErrorCode.EXPENSE_NOT_FOUND);
+			List<ExpenseDTO> rows = expenseMapper.findPageByUserId(query);
+			boolean hasNext = rows.size() > pageSize;
+			List<ExpenseDTO> items = hasNext ? rows.subList(0, pageSize) : rows;
+
+			String nextCursor = null;
+			if (hasNext) {
+				ExpenseDTO last = items.get(items.size() - 1);
+				nextCursor = encodeCursor(last.getExpenditureDate(), last.getExpenditureId());
 			}
-			if (!vo.getUserId().equals(userId)) {
-				throw new BusinessException(ErrorCode.EXPENSE_ACCESS_DENIED);
+			return ExpensePageDTO.builder()
+				.items(items)
+				.nextCursor(nextCursor)
+				.hasNext(hasNext)
+				.build();
+		} catch (Exception e) {
+			log.error("소비내역 페이지 조회 중 오류 발생: query={}, error={}", query, e.getMessage(), e);
+			throw new BusinessException(ErrorCode.DATA_ACCESS_ERROR, e);
+		}
+	}
+
+	@Override
+	public void streamExpenses(ExpenseQuery query, Consumer<ExpenseDTO> consumer) {
+		try {
+			// Cursor는 조회한 세션이 열려 있는 동안만 읽을 수 있으므로 트랜잭션으로 세션 유지
+			transactionTemplate.executeWithoutResult(status -> {
+				try (Cursor<ExpenseDTO> rows = expenseMapper.streamByUserId(query)) {
+					rows.forEach(consumer);
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			});
+		} catch (UncheckedIOException e) {
+			log.warn("소비내역 스트리밍 중단: userId={}, error={}", query.getUserId(), e.getMessage());
+			throw e;
+		} catch (Exception e) {
+			log.error("소비내역 스트리밍 중 오류 발생: query={}, error={}", query, e.getMessage(), e);
+			throw new BusinessException(ErrorCode.DATA_ACCESS_ERROR, e);
+		}
+	}
+
+	/**
+	 * 커서 문자열 "epochMillis:expenditureId" (URL-safe Base64)
+	 */
+	private String encodeCursor(Date expenditureDate, Long expenditureId) {
+		String raw = expenditureDate.getTime() + ":" + expenditureId;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private void decodeCursor(String cursor, ExpenseQuery query) {
+		if (cursor == null || cursor.isEmpty()) {
+			return;
+		}
+		try {
+			String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			String[] parts = raw.split(":", 2);
+			query.setCursorDate(new Date(Long.parseLong(parts[0])));
+			query.setCursorId(Long.parseLong(parts[1]));
+		} catch (RuntimeException e) {
+			throw new BusinessException(ErrorCode.INVALID_REQUEST, "잘못된 cursor 값입니다.");
+		}
+	}
+
+	@Override
+	public ExpenseChangesDTO getChanges(Long userId, String since, Integer limit) {
+		int pageSize = limit == null || limit <= 0 ? DEFAULT_CHANGES_SIZE : Math.min(limit, MAX_CHANGES_SIZE);
+		long[] position = decodeChangeToken(since);
+		long sinceVersion = position[0];
+
+		try {
+			ExpenseVersionVO current = expenseVersionService.getVersion(userId);
+			if (sinceVersion > 0
+				&& (sinceVersion < current.getResetVersion() || sinceVersion > current.getVersion())) {
+				return ExpenseChangesDTO.builder()
+					.upserts(List.of())
+					.removedIds(List.of())
+					.resyncRequired(true)
+					.build();
+			}
+
+			List<ExpenseChangeVO> rows = expenseMapper.findChanges(userId, sinceVersion, position[1], pageSize + 1);
+			boolean hasMore = rows.size() > pageSize;
+			List<ExpenseChangeVO> page = hasMore ? rows.subList(0, pageSize) : rows;
+
+			List<ExpenseDTO> upserts = new ArrayList<>();
+			List<Long> removedIds = new ArrayList<>();
+			for (ExpenseChangeVO row : page) {
+				if (Boolean.TRUE.equals(row.getRemoved())) {
+					removedIds.add(row.getExpense().getExpenditureId());
+				} else {
+					upserts.add(row.getExpense());
+				}
 			}
 
+			String nextToken;
+			if (hasMore) {
+				ExpenseChangeVO last = page.get(page.size() - 1);
+				nextToken = encodeChangeToken(last.getChangeVersion(), last.getExpense().getExpenditureId());
+			} else {
+				// 끝까지 읽었으면 조회 전에 커밋된 버전(또는 마지막 행 버전)까지 모두 받은 상태
+				long lastVersion = page.isEmpty() ? sinceVersion : page.get(page.size() - 1).getChangeVersion();
+				nextToken = encodeChangeToken(Math.max(lastVersion, current.getVersion()), null);
+			}
+			return ExpenseChangesDTO.builder()
+				.upserts(upserts)
+				.removedIds(removedIds)
+				.nextToken(nextToken)
+				.hasMore(hasMore)
+				.build();
+		} catch (Exception e) {
+			log.error("소비내역 변경분 조회 중 오류 발생: userId={}, since={}, error={}", userId, since, e.getMessage(), e);
+			throw new BusinessException(ErrorCode.DATA_ACCESS_ERROR, e);
+		}
+	}
+
+	/**
+	 * 변경 토큰 "version" (해당 버전까지 모두 받음) 또는 "version:expenditureId" (버전 중간) (URL-safe Base64)
+	 */
+	private String encodeChangeToken(long version, Long expenditureId) {
+		String raw = expenditureId == null ? String.valueOf(version) : version + ":" + expenditureId;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private long[] decodeChangeToken(String token) {
+		if (token == null || token.isEmpty()) {
+			return new long[] {0L, 0L};
+		}
+		try {
+			String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+			String[] parts = raw.split(":", 2);
+			long version = Long.parseLong(parts[0]);
+			long expenditureId = parts.length > 1 ? Long.parseLong(parts[1]) : Long.MAX_VALUE;
+			return new long[] {version, expenditureId};
+		} catch (RuntimeException e) {
+			throw new BusinessException(ErrorCode.INVALID_REQUEST, "잘못된 since 토큰입니다.");
+		}
+	}
+
+	@Override
+	public ExpenseDTO updateExpense(Long expenditureId, ExpenseDTO expenseDTO, Long userId) {
+		try {
 			// 항상 사용자의 main 계좌로 설정
-			AssetVO mainAsset = assetMapper.selectAssetByUserIdAndStatus(userId, "main");
+			AssetSummaryVO mainAsset = assetMapper.selectAssetSummaryByUserIdAndStatus(userId, "main");
 			if (mainAsset == null) {
 				throw new BusinessException(ErrorCode.ASSET_NOT_FOUND, "main 계좌가 연결되지 않았습니다.");
 			}
 
-			vo.setCategoryId(expenseDTO.getCategoryId());
+			ExpenseVO vo = dtoToVo(expenseDTO);
+			vo.setExpenditureId(expenditureId);
+			vo.setUserId(userId);    // 소유자 확인은 각 SQL의 WHERE 조건으로
 			vo.setAssetId(mainAsset.getAssetId());
-			vo.setAmount(expenseDTO.getAmount());
-			vo.setDescription(expenseDTO.getDescription());
-			vo.setExpenditureDate(expenseDTO.getExpenditureDate());
 			// 수정 시 user_modified = true 자동 설정
 			vo.setUserModified(true);
-			vo.setUserId(userId); // WHERE 조건을 위해 필요
 
-			int result = expenseMapper.update(vo);
-			if (result != 1) {
-				throw new BusinessException(ErrorCode.EXPENSE_UPDATE_FAILED,
-					"예상 업데이트 수: 1, 실제: " + result);
+			// 소유한 행이 없으면 롤백 후 실패 원인만 따로 확인
+			boolean updated = Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+				expenseVersionService.recordChange(userId);
+				if (!expenseRollupService.recordOwnedUpdate(vo) || expenseMapper.update(vo) != 1) {
+					status.setRollbackOnly();
+					return false;
+				}
+				return true;
+			}));
+			if (!updated) {
+				throw ownershipFailure(expenditureId, userId, ErrorCode.EXPENSE_UPDATE_FAILED);
 			}
-			return voToDto(expenseMapper.findById(expenditureId));
+
+			ExpenseDTO dto = toDto(vo);
+			dto.setUpdatedAt(new Date());
+			return expenseEnricher.enrich(dto, mainAsset);
 		} catch (BusinessException e) {
 			throw e;
 		} catch (Exception e) {
@@ -128,18 +299,18 @@ public class ExpenseServiceImpl implements ExpenseService {
 	@Override
 	public void deleteExpense(Long expenditureId, Long userId) {
 		try {
-			ExpenseVO vo = expenseMapper.findById(expenditureId);
-			if (vo == null) {
-				throw new BusinessException(ErrorCode.EXPENSE_NOT_FOUND);
-			}
-			if (!vo.getUserId().equals(userId)) {
-				throw new BusinessException(ErrorCode.EXPENSE_ACCESS_DENIED);
-			}
-			// 삭제 시 softDelete() 메서드 사용
-			int result = expenseMapper.softDelete(expenditureId, userId);
-			if (result != 1) {
-				throw new BusinessException(ErrorCode.EXPENSE_DELETE_FAILED,
-					"예상 삭제 수: 1, 실제: " + result);
+			// 삭제 시 softDelete() 메서드 사용, 소유자 확인은 WHERE 조건으로
+			boolean deleted = Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+				expenseVersionService.recordChange(userId);
+				if (!expenseRollupService.recordOwnedDelete(expenditureId, userId)
+					|| expenseMapper.softDelete(expenditureId, userId) != 1) {
+					status.setRollbackOnly();
+					return false;
+				}
+				return true;
+			}));
+			if (!deleted) {
+				throw ownershipFailure(expenditureId, userId, ErrorCode.EXPENSE_DELETE_FAILED);
 			}
 		} catch (BusinessException e) {
 			throw e;
@@ -184,17 +355,14 @@ public class ExpenseServiceImpl implements ExpenseService {
 				throw new BusinessException(ErrorCode.EXPENSE_NOT_FOUND);
 			}
 
+			ExpenseVO before = snapshot(vo);
 			vo.setCategoryId(expenseDTO.getCategoryId());
 			vo.setAssetId(expenseDTO.getAssetId());
 			vo.setAmount(expenseDTO.getAmount());
 			vo.setDescription(expenseDTO.getDescription());
 			vo.setExpenditureDate(expenseDTO.getExpenditureDate());
 
-			int result = expenseMapper.update(vo);
-			if (result != 1) {
-				throw new BusinessException(ErrorCode.EXPENSE_UPDATE_FAILED,
-					"예상 업데이트 수: 1, 실제: " + result);
-			}
+			updateWithRollup(before, vo);
 			return voToDto(expenseMapper.findById(expenditureId));
 		} catch (BusinessException e) {
 			throw e;
@@ -204,6 +372,45 @@ public class ExpenseServiceImpl implements ExpenseService {
 		}
 	}
 
+	/**
+	 * 소유자 조건 쓰기가 0건일 때만 원인 구분 (없음 / 다른 사용자 소유 / 그 사이 변경)
+	 */
+	private BusinessException ownershipFailure(Long expenditureId, Long userId, ErrorCode fallback) {
+		ExpenseVO existing = expenseMapper.findById(expenditureId);
+		if (existing == null) {
+			return new BusinessException(ErrorCode.EXPENSE_NOT_FOUND);
+		}
+		if (!existing.getUserId().equals(userId)) {
+			return new BusinessException(ErrorCode.EXPENSE_ACCESS_DENIED);
+		}
+		return new BusinessException(fallback);
+	}
+
+	/**
+	 * 소비내역 수정과 일자별 합계 반영을 한 트랜잭션으로 처리
+	 */
+	private void updateWithRollup(ExpenseVO before, ExpenseVO after) {
+		transactionTemplate.executeWithoutResult(status -> {
+			expenseVersionService.recordChange(after.getUserId());
+			int result = expenseMapper.update(after);
+			if (result != 1) {
+				throw new BusinessException(ErrorCode.EXPENSE_UPDATE_FAILED,
+					"예상 업데이트 수: 1, 실제: " + result);
+			}
+			expenseRollupService.recordUpdate(before, after);
+		});
+	}
+
+	// 집계 반영용 수정 전 값
+	private ExpenseVO snapshot(ExpenseVO vo) {
+		return ExpenseVO.builder()
+			.userId(vo.getUserId())
+			.categoryId(vo.getCategoryId())
+			.amount(vo.getAmount())
+			.expenditureDate(vo.getExpenditureDate())
+			.build();
+	}
+
 	private ExpenseVO dtoToVo(ExpenseDTO dto) {
 		if (dto == null)
 			return null;
@@ -221,7 +428,12 @@ public class ExpenseServiceImpl implements ExpenseService {
 		if (vo == null)
 			return null;
 
-		ExpenseDTO dto = ExpenseDTO.builder()
+		// 카테고리/계좌 표시 정보는 보강기에서 채움 (건별 조회, 복호화 없음)
+		return expenseEnricher.enrich(toDto(vo));
+	}
+
+	private ExpenseDTO toDto(ExpenseVO vo) {
+		return ExpenseDTO.builder()
 			.expenditureId(vo.getExpenditureId())
 			.userId(vo.getUserId())
 			.categoryId(vo.getCategoryId())
@@ -233,22 +445,6 @@ public class ExpenseServiceImpl implements ExpenseService {
 			.updatedAt(vo.getUpdatedAt())
 			.userModified(vo.getUserModified())
 			.build();
-
-		if (vo.getCategoryId() != null) {
-			CategoryVO categoryVO = categoryMapper.findById(vo.getCategoryId());
-			if (categoryVO != null) {
-				dto.setCategoryName(categoryVO.getName());
-			}
-		}
-
-		if (vo.getAssetId() != null) {
-			AssetVO assetVO = assetMapper.selectAssetById(vo.getAssetId());
-			if (assetVO != null) {
-				dto.setAssetName(assetVO.getAssetName());
-				dto.setBankName(assetVO.getBankName());
-			}
-		}
-		return dto;
 	}
 
 	@Override
@@ -0,0 +1,110 @@
+package org.bbagisix.expense.service;
+
+import java.time.Duration;
+
+import org.bbagisix.expense.domain.ExpenseVersionVO;
+import org.bbagisix.expense.mapper.ExpenseVersionMapper;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * 사용자별 소비내역 변경 버전
+ * - DB 버전: 변경 동기화 토큰용. 소비내역 쓰기 트랜잭션 안에서 쓰기 직전에 recordChange를 호출해야
+ *   쓰기 SQL이 올린 버전을 change_version으로 기록함
+ * - 캐시 버전(Redis): 조회 API ETag용. 커밋 후 증가하며 조회 시 MySQL을 거치지 않음
+ */
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class ExpenseVersionService {
+
+	private static final String CACHE_VERSION_KEY_PREFIX = "expense:version:";
+	// 커밋 후 증가가 실패해 남은 오래된 값으로 304를 내보내는 시간을 최대 5분으로 제한 (만료 후 첫 조회는 200)
+	private static final Duration CACHE_VERSION_TTL = Duration.ofMinutes(5);
+
+	private final ExpenseVersionMapper versionMapper;
+	private final StringRedisTemplate stringRedisTemplate;
+
+	public void recordChange(Long userId) {
+		versionMapper.increment(userId);
+		bumpCacheVersionAfterCommit(userId);
+	}
+
+	/**
+	 * 물리 삭제처럼 변경분으로 전달할 수 없는 변경 후 호출 - 이전 토큰은 전체 재동기화
+	 */
+	public void recordReset(Long userId) {
+		versionMapper.increment(userId);
+		versionMapper.markReset(userId);
+		bumpCacheVersionAfterCommit(userId);
+	}
+
+	/**
+	 * 소비내역 행은 그대로이고 집계만 바뀐 경우 (롤업 보정 등) 조회 캐시만 무효화
+	 */
+	public void touch(Long userId) {
+		bumpCacheVersionAfterCommit(userId);
+	}
+
+	public ExpenseVersionVO getVersion(Long userId) {
+		ExpenseVersionVO version = versionMapper.findByUserId(userId);
+		if (version == null) {
+			return ExpenseVersionVO.builder().userId(userId).version(0L).resetVersion(0L).build();
+		}
+		return version;
+	}
+
+	/**
+	 * ETag용 캐시 버전 (Redis만 조회), Redis 장애 시 null
+	 * 키가 없으면(만료/유실) 현재 시각으로 시작해 이전에 내보낸 값과 겹치지 않게 함
+	 */
+	public Long getCacheVersion(Long userId) {
+		String key = CACHE_VERSION_KEY_PREFIX + userId;
+		try {
+			String value = stringRedisTemplate.opsForValue().get(key);
+			if (value == null) {
+				stringRedisTemplate.opsForValue()
+					.setIfAbsent(key, String.valueOf(System.currentTimeMillis()), CACHE_VERSION_TTL);
+				value = stringRedisTemplate.opsForValue().get(key);
+			}
+			return value != null ? Long.valueOf(value) : null;
+		} catch (Exception e) {
+			log.warn("소비내역 캐시 버전 조회 실패: userId={}, error={}", userId, e.getMessage());
+			return null;
+		}
+	}
+
+	// 커밋 전에 올리면 새 ETag로 이전 데이터가 캐시될 수 있으므로 커밋 후 증가
+	private void bumpCacheVersionAfterCommit(Long userId) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			bumpCacheVersion(userId);
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				bumpCacheVersion(userId);
+			}
+		});
+	}
+
+	private void bumpCacheVersion(Long userId) {
+		String key = CACHE_VERSION_KEY_PREFIX + userId;
+		try {
+			Long version = stringRedisTemplate.opsForValue().increment(key);
+			if (version != null && version == 1L) {
+				// 키가 없던 상태에서 1부터 시작하면 예전 값과 겹칠 수 있으므로 현재 시각으로 올림
+				stringRedisTemplate.opsForValue().set(key, String.valueOf(System.currentTimeMillis()), CACHE_VERSION_TTL);
+			} else {
+				stringRedisTemplate.expire(key, CACHE_VERSION_TTL);
+			}
+		} catch (Exception e) {
+			log.warn("소비내역 캐시 버전 갱신 실패: userId={}, error={}", userId, e.getMessage());
+		}
+	}
+}
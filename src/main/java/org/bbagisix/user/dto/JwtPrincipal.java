@@ -0,0 +1,22 @@
+package org.bbagisix.user.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 검증이 끝난 JWT에서 추출한 사용자 정보 (불변)
+ */
+@Getter
+@AllArgsConstructor
+public class JwtPrincipal {
+    private final Long userId;
+    private final String name;        // subject (email)
+    private final String email;
+    private final String nickname;
+    private final String role;
+    private final long expiresAt;     // exp (epoch millis)
+
+    public boolean isExpired(long now) {
+        return expiresAt <= now;
+    }
+}
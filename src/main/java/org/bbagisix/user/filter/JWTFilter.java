@@ -9,6 +9,7 @@ import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
 import org.bbagisix.user.dto.CustomOAuth2User;
+import org.bbagisix.user.dto.JwtPrincipal;
 import org.bbagisix.user.dto.UserResponse;
 import org.bbagisix.user.util.JwtUtil;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -49,25 +50,19 @@ public class JWTFilter extends OncePerRequestFilter {
 			return;
 		}
 
-		// 토큰 만료 확인
-		if (jwtUtil.isExpired(token)) {
+		// 토큰 검증 및 사용자 정보 추출 (한 번만 파싱, 최근 검증 토큰은 캐시 사용)
+		JwtPrincipal principal = jwtUtil.verify(token);
+		if (principal == null) {
 			filterChain.doFilter(request, response);
 			return;
 		}
 
-		// JWT에서 사용자 정보 추출
-		String name = jwtUtil.getName(token);
-		String role = jwtUtil.getRole(token);
-		String email = jwtUtil.getEmail(token);
-		String nickname = jwtUtil.getNickname(token);
-		Long userId = jwtUtil.getUserId(token);
-
 		UserResponse userResponse = UserResponse.builder()
-			.userId(userId)
-			.name(name)
-			.nickname(nickname)
-			.email(email)
-			.role(role)
+			.userId(principal.getUserId())
+			.name(principal.getName())
+			.nickname(principal.getNickname())
+			.email(principal.getEmail())
+			.role(principal.getRole())
 			.assetConnected(false)
 			.build();
 
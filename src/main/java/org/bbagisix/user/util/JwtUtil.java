@@ -1,23 +1,61 @@
 package org.bbagisix.user.util;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import lombok.extern.slf4j.Slf4j;
+
+import org.bbagisix.user.dto.JwtPrincipal;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import javax.annotation.PostConstruct;
+
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Collections;
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
+@Slf4j
 @Component
 public class JwtUtil {
 
     @Value("${JWT_SECRET}")
     private String secretKey;
 
+    @Value("${JWT_VERIFY_CACHE_SIZE:10000}")
+    private int verifyCacheSize;    // 0 이하면 캐시 사용 안 함
+
+    private Key signingKey;
+    private JwtParser parser;       // 불변, 스레드 안전
+
+    // 토큰 해시 -> 검증된 사용자 정보 (접근 순서 LRU)
+    private Map<String, JwtPrincipal> verifiedTokens;
+
+    @PostConstruct
+    public void init() {
+        signingKey = Keys.hmacShaKeyFor(secretKey.getBytes());
+        parser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+
+        int capacity = Math.max(verifyCacheSize, 0);
+        verifiedTokens = Collections.synchronizedMap(new LinkedHashMap<String, JwtPrincipal>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, JwtPrincipal> eldest) {
+                return size() > capacity;
+            }
+        });
+    }
+
     private Key getSigningKey() {
-        return Keys.hmacShaKeyFor(secretKey.getBytes());
+        return signingKey;
     }
 
     public String createToken(String email, String role, String name, String nickname, Long userId, long expirationTime) {
@@ -37,8 +75,51 @@ public class JwtUtil {
             .compact();
     }
 
+    /**
+     * 토큰을 한 번만 검증하고 사용자 정보를 추출
+     * 최근 검증한 토큰은 exp 까지 캐시에서 반환, 유효하지 않거나 만료된 토큰이면 null
+     */
+    public JwtPrincipal verify(String token) {
+        long now = System.currentTimeMillis();
+        String cacheKey = verifyCacheSize > 0 ? hash(token) : null;
+
+        if (cacheKey != null) {
+            JwtPrincipal cached = verifiedTokens.get(cacheKey);
+            if (cached != null) {
+                if (!cached.isExpired(now)) {
+                    return cached;
+                }
+                verifiedTokens.remove(cacheKey);
+                return null;
+            }
+        }
+
+        JwtPrincipal principal;
+        try {
+            Claims claims = getClaims(token);
+            principal = new JwtPrincipal(
+                claims.get("userId", Long.class),
+                claims.getSubject(),
+                claims.get("email", String.class),
+                claims.get("nickname", String.class),
+                claims.get("role", String.class),
+                claims.getExpiration().getTime());
+        } catch (JwtException | IllegalArgumentException e) {
+            log.debug("JWT 검증 실패: {}", e.getMessage());
+            return null;
+        }
+
+        if (principal.isExpired(now)) {
+            return null;
+        }
+        if (cacheKey != null) {
+            verifiedTokens.put(cacheKey, principal);
+        }
+        return principal;
+    }
+
     private Claims getClaims(String token) {
-        return Jwts.parserBuilder().setSigningKey(getSigningKey()).build().parseClaimsJws(token).getBody();
+        return parser.parseClaimsJws(token).getBody();
     }
 
     public String getName(String token) {
@@ -64,4 +145,16 @@ public class JwtUtil {
     public boolean isExpired(String token) {
         return getClaims(token).getExpiration().before(new Date());
     }
+
+    /**
+     * 캐시 키용 토큰 해시 (원문 토큰을 메모리에 보관하지 않음)
+     */
+    private String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
 }
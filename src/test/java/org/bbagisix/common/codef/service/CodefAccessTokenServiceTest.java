@@ -0,0 +1,209 @@
+package org.bbagisix.common.codef.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.bbagisix.common.codef.domain.CodefAccessTokenVO;
+import org.bbagisix.common.codef.mapper.CodefAccessTokenMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Codef 토큰 캐시 테스트")
+class CodefAccessTokenServiceTest {
+
+	private static final String TOKEN_RESPONSE = "{\"access_token\":\"new-token\",\"expires_in\":604800}";
+
+	@Mock
+	private CodefAccessTokenMapper codefAccessTokenMapper;
+
+	@Mock
+	private CodefHttpClient codefHttpClient;
+
+	@Mock
+	private StringRedisTemplate stringRedisTemplate;
+
+	@Mock
+	private ValueOperations<String, String> valueOperations;
+
+	@InjectMocks
+	private CodefAccessTokenService codefAccessTokenService;
+
+	// access_token 테이블 대신 현재 토큰 한 건
+	private final AtomicReference<CodefAccessTokenVO> storedToken = new AtomicReference<>();
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(codefAccessTokenService, "oauthUrl", "http://localhost/oauth/token");
+		ReflectionTestUtils.setField(codefAccessTokenService, "clientId", "client");
+		ReflectionTestUtils.setField(codefAccessTokenService, "clientSecret", "secret");
+		ReflectionTestUtils.setField(codefAccessTokenService, "refreshAheadMinutes", 60L);
+		ReflectionTestUtils.setField(codefAccessTokenService, "httpPoolTimeoutMs", 5000L);
+		ReflectionTestUtils.setField(codefAccessTokenService, "httpConnectTimeoutMs", 3000L);
+		ReflectionTestUtils.setField(codefAccessTokenService, "httpSocketTimeoutMs", 60000L);
+		codefAccessTokenService.init();
+
+		lenient().when(codefAccessTokenMapper.getCurrentToken()).thenAnswer(invocation -> storedToken.get());
+		lenient().when(codefAccessTokenMapper.insertToken(any())).thenAnswer(invocation -> {
+			CodefAccessTokenVO token = invocation.getArgument(0);
+			token.setTokenId(1L);
+			storedToken.set(token);
+			return 1;
+		});
+		lenient().when(codefAccessTokenMapper.updateToken(any())).thenAnswer(invocation -> {
+			storedToken.set(invocation.getArgument(0));
+			return 1;
+		});
+		lenient().when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+	}
+
+	@Test
+	@DisplayName("유효한 토큰은 메모리에서 반환하고 DB를 다시 조회하지 않음")
+	void returnsCachedToken() {
+		// given
+		storedToken.set(token("db-token", Duration.ofDays(3)));
+
+		// when
+		String first = codefAccessTokenService.getValidAccessToken();
+		String second = codefAccessTokenService.getValidAccessToken();
+
+		// then
+		assertEquals("db-token", first);
+		assertEquals("db-token", second);
+		verify(codefAccessTokenMapper, times(1)).getCurrentToken();
+		verifyNoInteractions(codefHttpClient);
+	}
+
+	@Test
+	@DisplayName("동시에 만료된 토큰을 요청해도 OAuth는 한 번만 호출")
+	void refreshesOnceForConcurrentCallers() throws Exception {
+		// given
+		storedToken.set(token("expired-token", Duration.ofMinutes(1)));
+		when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+		when(codefHttpClient.post(anyString(), anyString(), any(), anyString())).thenAnswer(invocation -> {
+			Thread.sleep(200);
+			return new CodefHttpClient.Response(200, TOKEN_RESPONSE);
+		});
+
+		int callers = 8;
+		ExecutorService executor = Executors.newFixedThreadPool(callers);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<String>> results = new ArrayList<>();
+
+		// when
+		for (int i = 0; i < callers; i++) {
+			results.add(executor.submit(() -> {
+				start.await();
+				return codefAccessTokenService.getValidAccessToken();
+			}));
+		}
+		start.countDown();
+
+		// then
+		for (Future<String> result : results) {
+			assertEquals("new-token", result.get());
+		}
+		executor.shutdown();
+		verify(codefHttpClient, times(1)).post(anyString(), anyString(), any(), anyString());
+	}
+
+	@Test
+	@DisplayName("다른 서버가 갱신 임대를 가지고 있으면 OAuth 대신 DB에 저장된 새 토큰 사용")
+	void waitsForOtherNode() throws Exception {
+		// given
+		storedToken.set(token("expired-token", Duration.ofMinutes(1)));
+		when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenAnswer(invocation -> {
+			// 임대를 가진 서버가 곧 새 토큰을 저장
+			storedToken.set(token("other-node-token", Duration.ofDays(7)));
+			return false;
+		});
+
+		// when
+		String accessToken = codefAccessTokenService.getValidAccessToken();
+
+		// then
+		assertEquals("other-node-token", accessToken);
+		verifyNoInteractions(codefHttpClient);
+	}
+
+	@Test
+	@DisplayName("만료가 가까운 토큰은 백그라운드에서 미리 갱신")
+	void refreshesAheadOfExpiry() throws Exception {
+		// given
+		storedToken.set(token("expiring-token", Duration.ofMinutes(30)));
+		when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+		when(codefHttpClient.post(anyString(), anyString(), any(), anyString()))
+			.thenReturn(new CodefHttpClient.Response(200, TOKEN_RESPONSE));
+
+		// when
+		codefAccessTokenService.refreshIfExpiring();
+
+		// then
+		assertEquals("new-token", codefAccessTokenService.getValidAccessToken());
+		verify(codefHttpClient, times(1)).post(anyString(), anyString(), any(), anyString());
+	}
+
+	@Test
+	@DisplayName("API가 거부한 토큰은 만료 전이어도 다시 쓰지 않고 재발급")
+	void reissuesRejectedToken() throws Exception {
+		// given
+		storedToken.set(token("revoked-token", Duration.ofDays(3)));
+		assertEquals("revoked-token", codefAccessTokenService.getValidAccessToken());
+		when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+		when(codefHttpClient.post(anyString(), anyString(), any(), anyString()))
+			.thenReturn(new CodefHttpClient.Response(200, TOKEN_RESPONSE));
+
+		// when
+		codefAccessTokenService.invalidate("revoked-token");
+
+		// then
+		assertEquals("new-token", codefAccessTokenService.getValidAccessToken());
+		verify(codefHttpClient, times(1)).post(anyString(), anyString(), any(), anyString());
+	}
+
+	@Test
+	@DisplayName("갱신 임대 시간은 OAuth 호출 최대 시간보다 김")
+	void leaseOutlivesHttpTimeouts() throws Exception {
+		// given
+		storedToken.set(token("expired-token", Duration.ofMinutes(1)));
+		when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+		when(codefHttpClient.post(anyString(), anyString(), any(), anyString()))
+			.thenReturn(new CodefHttpClient.Response(200, TOKEN_RESPONSE));
+
+		// when
+		codefAccessTokenService.getValidAccessToken();
+
+		// then
+		ArgumentCaptor<Duration> ttl = ArgumentCaptor.forClass(Duration.class);
+		verify(valueOperations).setIfAbsent(anyString(), anyString(), ttl.capture());
+		assertTrue(ttl.getValue().toMillis() > 68_000L);
+	}
+
+	private static CodefAccessTokenVO token(String accessToken, Duration remaining) {
+		CodefAccessTokenVO token = new CodefAccessTokenVO();
+		token.setTokenId(1L);
+		token.setAccessToken(accessToken);
+		token.setExpiresAt(new Date(System.currentTimeMillis() + remaining.toMillis()));
+		return token;
+	}
+}
@@ -0,0 +1,144 @@
+package org.bbagisix.common.codef.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.GZIPOutputStream;
+
+import org.apache.http.entity.ContentType;
+import org.apache.http.pool.PoolStats;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * 로컬 스텁 서버(JDK HttpServer)로 Codef HTTP 클라이언트의 연결 재사용, gzip, 타임아웃 확인
+ */
+@DisplayName("Codef HTTP 클라이언트 테스트")
+class CodefHttpClientTest {
+
+	private static final String BODY = "{\"result\":{\"code\":\"CF-00000\"}}";
+
+	private HttpServer server;
+	private ExecutorService serverExecutor;
+	private CodefHttpClient client;
+	private String baseUrl;
+
+	private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+	private volatile String lastAcceptEncoding;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.createContext("/ok", exchange -> {
+			clientPorts.add(exchange.getRemoteAddress().getPort());
+			respond(exchange, BODY.getBytes(StandardCharsets.UTF_8), false);
+		});
+		server.createContext("/gzip", exchange -> {
+			lastAcceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+			respond(exchange, gzip(BODY), true);
+		});
+		server.createContext("/slow", exchange -> {
+			try {
+				Thread.sleep(2000);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			respond(exchange, BODY.getBytes(StandardCharsets.UTF_8), false);
+		});
+		serverExecutor = Executors.newCachedThreadPool();
+		server.setExecutor(serverExecutor);
+		server.start();
+		baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+
+		client = new CodefHttpClient();
+		ReflectionTestUtils.setField(client, "maxTotal", 4);
+		ReflectionTestUtils.setField(client, "maxPerRoute", 2);
+		ReflectionTestUtils.setField(client, "connectTimeoutMs", 1000);
+		ReflectionTestUtils.setField(client, "poolTimeoutMs", 1000);
+		ReflectionTestUtils.setField(client, "socketTimeoutMs", 300);
+		ReflectionTestUtils.setField(client, "keepAliveMs", 30000L);
+		client.start();
+	}
+
+	@AfterEach
+	void tearDown() {
+		client.shutdown();
+		server.stop(0);
+		serverExecutor.shutdownNow();
+	}
+
+	@Test
+	@DisplayName("연속 요청은 keep-alive 연결 하나를 재사용")
+	void reusesConnection() throws IOException {
+		// when
+		for (int i = 0; i < 3; i++) {
+			CodefHttpClient.Response response = client.post(baseUrl + "/ok", "{}", ContentType.APPLICATION_JSON,
+				"Bearer token");
+			assertEquals(200, response.getStatus());
+			assertEquals(BODY, response.getBody());
+		}
+
+		// then
+		assertEquals(1, clientPorts.size());
+		PoolStats stats = client.getPoolStats();
+		assertEquals(0, stats.getLeased());
+		assertEquals(1, stats.getAvailable());
+	}
+
+	@Test
+	@DisplayName("gzip 요청 헤더를 보내고 압축 응답을 풀어서 반환")
+	void decodesGzipResponse() throws IOException {
+		// when
+		CodefHttpClient.Response response = client.post(baseUrl + "/gzip", "{}", ContentType.APPLICATION_JSON,
+			"Bearer token");
+
+		// then
+		assertNotNull(lastAcceptEncoding);
+		assertTrue(lastAcceptEncoding.contains("gzip"));
+		assertEquals(BODY, response.getBody());
+	}
+
+	@Test
+	@DisplayName("응답 지연 시 소켓 타임아웃으로 끊고 연결은 풀에 남기지 않음")
+	void timesOutSlowResponse() {
+		// when & then
+		assertThrows(SocketTimeoutException.class,
+			() -> client.post(baseUrl + "/slow", "{}", ContentType.APPLICATION_JSON, "Bearer token"));
+		assertEquals(0, client.getPoolStats().getLeased());
+	}
+
+	private static void respond(HttpExchange exchange, byte[] body, boolean gzip) throws IOException {
+		exchange.getRequestBody().readAllBytes();
+		exchange.getResponseHeaders().set("Content-Type", "application/json");
+		if (gzip) {
+			exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+		}
+		exchange.sendResponseHeaders(200, body.length);
+		try (OutputStream os = exchange.getResponseBody()) {
+			os.write(body);
+		}
+	}
+
+	private static byte[] gzip(String value) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+			out.write(value.getBytes(StandardCharsets.UTF_8));
+		}
+		return bytes.toByteArray();
+	}
+}
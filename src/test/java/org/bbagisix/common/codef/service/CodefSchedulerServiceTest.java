@@ -0,0 +1,173 @@
+package org.bbagisix.common.codef.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Date;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.bbagisix.asset.domain.AssetVO;
+import org.bbagisix.asset.mapper.AssetMapper;
+import org.bbagisix.asset.service.AssetService;
+import org.bbagisix.common.codef.dto.CodefTransactionResDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Codef 증분 동기화 테스트")
+class CodefSchedulerServiceTest {
+
+	private static final Long USER_ID = 1L;
+	private static final Long ASSET_ID = 10L;
+	private static final DateTimeFormatter YYYYMMDD = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+	@Mock
+	private AssetMapper assetMapper;
+
+	@Mock
+	private CodefApiService codefApiService;
+
+	@Mock
+	private AssetService assetService;
+
+	@Mock
+	private TransactionTemplate transactionTemplate;
+
+	@InjectMocks
+	private CodefSchedulerService codefSchedulerService;
+
+	private final LocalDate today = LocalDate.now();
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(codefSchedulerService, "syncOverlapMinutes", 30L);
+		ReflectionTestUtils.setField(codefSchedulerService, "syncWindowDays", 31);
+		ReflectionTestUtils.setField(codefSchedulerService, "maxCatchUpDays", 90);
+
+		lenient().doAnswer(invocation -> {
+			Consumer<TransactionStatus> action = invocation.getArgument(0);
+			action.accept(null);
+			return null;
+		}).when(transactionTemplate).executeWithoutResult(any());
+		// 거래 없는 응답 (잔액 그대로)
+		lenient().when(codefApiService.getTransactionList(any(), any(), anyString(), anyString(), eq(false)))
+			.thenReturn(new CodefTransactionResDTO(null, "main", List.of()));
+		lenient().when(assetService.excludeExistingTransactions(any(), any(), any())).thenReturn(List.of());
+	}
+
+	@Test
+	@DisplayName("기준 시각이 없는 계좌는 어제부터 오늘까지 한 번 조회하고 기준 시각 저장")
+	void syncsFromYesterdayWithoutWatermark() {
+		// given
+		givenMainAsset(null);
+
+		// when
+		codefSchedulerService.syncUserTransactions(USER_ID);
+
+		// then
+		verify(codefApiService).getTransactionList(any(), any(), eq(format(today.minusDays(1))), eq(format(today)),
+			eq(false));
+		verify(assetMapper).updateLastSyncedAt(eq(ASSET_ID), any(Date.class));
+	}
+
+	@Test
+	@DisplayName("기준 시각에서 겹침 구간만큼 앞선 날부터 조회")
+	void syncsDeltaFromWatermark() {
+		// given: 오늘 0시 10분에 동기화 -> 겹침 30분이면 어제부터
+		givenMainAsset(toDate(today).toInstant().plusSeconds(600));
+
+		// when
+		codefSchedulerService.syncUserTransactions(USER_ID);
+
+		// then
+		verify(codefApiService).getTransactionList(any(), any(), eq(format(today.minusDays(1))), eq(format(today)),
+			eq(false));
+	}
+
+	@Test
+	@DisplayName("오래 멈춘 계좌는 구간을 나눠 따라잡고 구간마다 기준 시각을 앞으로 이동")
+	void catchesUpInWindows() {
+		// given: 70일 전 동기화
+		givenMainAsset(toDate(today.minusDays(70)).toInstant().plusSeconds(12 * 3600));
+
+		// when
+		codefSchedulerService.syncUserTransactions(USER_ID);
+
+		// then: 70일 전 ~ 오늘 (71일) -> 31일, 31일, 9일
+		verify(codefApiService).getTransactionList(any(), any(), eq(format(today.minusDays(70))),
+			eq(format(today.minusDays(40))), eq(false));
+		verify(codefApiService).getTransactionList(any(), any(), eq(format(today.minusDays(39))),
+			eq(format(today.minusDays(9))), eq(false));
+		verify(codefApiService).getTransactionList(any(), any(), eq(format(today.minusDays(8))), eq(format(today)),
+			eq(false));
+
+		ArgumentCaptor<Date> watermarks = ArgumentCaptor.forClass(Date.class);
+		verify(assetMapper, times(3)).updateLastSyncedAt(eq(ASSET_ID), watermarks.capture());
+		assertEquals(toDate(today.minusDays(39)), watermarks.getAllValues().get(0));
+		assertEquals(toDate(today.minusDays(8)), watermarks.getAllValues().get(1));
+	}
+
+	@Test
+	@DisplayName("따라잡기 기간보다 오래된 계좌는 최대 기간까지만 조회")
+	void limitsCatchUp() {
+		// given
+		givenMainAsset(toDate(today.minusDays(400)).toInstant());
+
+		// when
+		codefSchedulerService.syncUserTransactions(USER_ID);
+
+		// then
+		verify(codefApiService).getTransactionList(any(), any(), eq(format(today.minusDays(90))),
+			eq(format(today.minusDays(60))), eq(false));
+	}
+
+	@Test
+	@DisplayName("응답이 없으면 기준 시각을 올리지 않고 중단")
+	void keepsWatermarkOnEmptyResponse() {
+		// given
+		givenMainAsset(toDate(today.minusDays(70)).toInstant());
+		when(codefApiService.getTransactionList(any(), any(), anyString(), anyString(), eq(false))).thenReturn(null);
+
+		// when
+		codefSchedulerService.syncUserTransactions(USER_ID);
+
+		// then
+		verify(codefApiService, times(1)).getTransactionList(any(), any(), anyString(), anyString(), eq(false));
+		verify(assetMapper, never()).updateLastSyncedAt(any(), any());
+	}
+
+	private void givenMainAsset(Instant lastSyncedAt) {
+		AssetVO asset = AssetVO.builder()
+			.assetId(ASSET_ID)
+			.userId(USER_ID)
+			.balance(0L)
+			.connectedId("connected")
+			.status("main")
+			.lastSyncedAt(lastSyncedAt != null ? Date.from(lastSyncedAt) : null)
+			.build();
+		when(assetMapper.selectAssetByUserIdAndStatus(USER_ID, "main")).thenReturn(asset);
+	}
+
+	private static Date toDate(LocalDate date) {
+		return Date.from(date.atStartOfDay(ZoneId.systemDefault()).toInstant());
+	}
+
+	private static String format(LocalDate date) {
+		return date.format(YYYYMMDD);
+	}
+}
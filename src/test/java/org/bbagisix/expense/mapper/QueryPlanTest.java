@@ -0,0 +1,377 @@
+package org.bbagisix.expense.mapper;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.ibatis.executor.parameter.ParameterHandler;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.scripting.defaults.DefaultParameterHandler;
+import org.apache.ibatis.session.Configuration;
+import org.bbagisix.expense.dto.ExpenseQuery;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.SqlSessionFactoryBean;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+/**
+ * 소비/챌린지 쿼리가 sql/migration 인덱스를 사용하는지 EXPLAIN 으로 확인
+ * - application-test.properties 의 MySQL 에 별도 스키마를 만들어 실행 (연결 불가 시 건너뜀)
+ * - 매퍼 XML 의 실제 SQL 을 MyBatis 로 바인딩해 EXPLAIN
+ */
+@DisplayName("소비/챌린지 쿼리 실행 계획 테스트")
+class QueryPlanTest {
+
+	private static final String PLAN_SCHEMA = "dondothat_query_plan";
+	private static final Path MIGRATION_DIR = Paths.get("sql", "migration");
+
+	private static final int USERS = 20;
+	private static final int EXPENSES_PER_USER = 200;
+	private static final int CHALLENGES_PER_USER = 10;
+
+	private static Connection connection;
+	private static Configuration configuration;
+
+	@BeforeAll
+	static void setUp() throws Exception {
+		Properties props = new Properties();
+		try (InputStream in = new ClassPathResource("application-test.properties").getInputStream()) {
+			props.load(in);
+		}
+		assumeTrue(Files.isDirectory(MIGRATION_DIR), "sql/migration 디렉터리 없음");
+
+		try {
+			Class.forName(props.getProperty("jdbc.driver"));
+			connection = DriverManager.getConnection(props.getProperty("jdbc.url"),
+				props.getProperty("jdbc.username"), props.getProperty("jdbc.password"));
+		} catch (ClassNotFoundException | SQLException e) {
+			assumeTrue(false, "테스트 DB 연결 불가 - 실행 계획 테스트 건너뜀: " + e.getMessage());
+		}
+
+		try (Statement statement = connection.createStatement()) {
+			statement.execute("DROP DATABASE IF EXISTS " + PLAN_SCHEMA);
+			statement.execute("CREATE DATABASE " + PLAN_SCHEMA);
+		}
+		connection.setCatalog(PLAN_SCHEMA);
+
+		runScript(new String(new ClassPathResource("sql/query-plan-fixture.sql").getInputStream().readAllBytes(),
+			StandardCharsets.UTF_8));
+		for (Path migration : migrations()) {
+			runScript(Files.readString(migration, StandardCharsets.UTF_8));
+		}
+		seed();
+
+		SqlSessionFactoryBean factoryBean = new SqlSessionFactoryBean();
+		factoryBean.setDataSource(new SingleConnectionDataSource(connection, true));
+		factoryBean.setConfigLocation(new ClassPathResource("mybatis-config.xml"));
+		factoryBean.setMapperLocations(
+			new PathMatchingResourcePatternResolver().getResources("classpath:/mappers/**/*.xml"));
+		configuration = factoryBean.getObject().getConfiguration();
+	}
+
+	@AfterAll
+	static void tearDown() throws SQLException {
+		if (connection == null) {
+			return;
+		}
+		try (Statement statement = connection.createStatement()) {
+			statement.execute("DROP DATABASE IF EXISTS " + PLAN_SCHEMA);
+		} finally {
+			connection.close();
+		}
+	}
+
+	@Test
+	@DisplayName("소비내역 첫 페이지 - 사용자/기간 인덱스 순서로 정렬 없이 조회")
+	void findPageByUserId_firstPage() throws SQLException {
+		// given
+		ExpenseQuery query = ExpenseQuery.builder().userId(3L).limit(31).build();
+
+		// when
+		Map<String, Plan> plans = explain("org.bbagisix.expense.mapper.ExpenseMapper.findPageByUserId", query);
+
+		// then
+		assertEquals("idx_expenditure_user_deleted_date", plans.get("e").key());
+		assertFalse(plans.get("e").extra().contains("Using filesort"));
+	}
+
+	@Test
+	@DisplayName("소비내역 다음 페이지(기간 + cursor) - 범위 스캔")
+	void findPageByUserId_withRangeAndCursor() throws SQLException {
+		// given
+		LocalDate to = LocalDate.now();
+		ExpenseQuery query = ExpenseQuery.builder()
+			.userId(3L)
+			.from(to.minusDays(30))
+			.to(to)
+			.cursorDate(Timestamp.valueOf(to.minusDays(10).atStartOfDay()))
+			.cursorId(Long.MAX_VALUE)
+			.limit(31)
+			.build();
+
+		// when
+		Map<String, Plan> plans = explain("org.bbagisix.expense.mapper.ExpenseMapper.findPageByUserId", query);
+
+		// then
+		assertEquals("idx_expenditure_user_deleted_date", plans.get("e").key());
+		assertEquals("range", plans.get("e").type());
+	}
+
+	@Test
+	@DisplayName("Codef 동기화 중복 후보 - 지문/거래 ID/사용자 기간 인덱스를 각각 사용")
+	void findSyncDuplicates() throws SQLException {
+		// given
+		LocalDateTime now = LocalDateTime.now();
+		Map<String, Object> params = new HashMap<>();
+		params.put("userId", 3L);
+		params.put("assetId", 3L);
+		params.put("fingerprints", List.of(fingerprint("codef-3-2"), fingerprint("codef-3-4")));
+		params.put("codefTransactionIds", List.of("codef-3-1", "codef-3-3"));
+		params.put("from", Timestamp.valueOf(now.minusDays(1)));
+		params.put("to", Timestamp.valueOf(now));
+
+		// when
+		Map<String, Plan> plans = explain("org.bbagisix.expense.mapper.ExpenseMapper.findSyncDuplicates", params);
+
+		// then
+		assertEquals("idx_expenditure_transaction_fingerprint", plans.get("fp").key());
+		assertEquals("idx_expenditure_codef_transaction", plans.get("legacy").key());
+		assertEquals("idx_expenditure_user_deleted_date", plans.get("manual").key());
+		assertEquals("range", plans.get("manual").type());
+	}
+
+	@Test
+	@DisplayName("이번 달 카테고리별 합계 - 롤업 기본키 범위 스캔")
+	void getCurrentMonthSummaryByCategory() throws SQLException {
+		// when
+		Map<String, Plan> plans = explain(
+			"org.bbagisix.expense.mapper.ExpenseMapper.getCurrentMonthSummaryByCategory", 3L);
+
+		// then
+		assertEquals("PRIMARY", plans.get("r").key());
+		assertEquals("range", plans.get("r").type());
+	}
+
+	@Test
+	@DisplayName("챌린지 실패 소비내역 - 사용자/기간 인덱스 사용")
+	void getFailExpenditures() throws SQLException {
+		// given
+		Map<String, Object> params = new HashMap<>();
+		params.put("userId", 3L);
+		params.put("challengeId", 1L);
+
+		// when
+		Map<String, Plan> plans = explain("org.bbagisix.challenge.mapper.ChallengeMapper.getFailExpenditures",
+			params);
+
+		// then
+		assertEquals("idx_expenditure_user_deleted_date", plans.get("e").key());
+	}
+
+	@Test
+	@DisplayName("진행 중 챌린지 전체 조회 - 상태 인덱스 사용")
+	void getOngoingChallenges() throws SQLException {
+		// when
+		Map<String, Plan> plans = explain("org.bbagisix.challenge.mapper.ChallengeMapper.getOngoingChallenges",
+			null);
+
+		// then
+		assertEquals("idx_user_challenge_status_user", plans.get("user_challenge").key());
+	}
+
+	@Test
+	@DisplayName("진행 중 챌린지 여부 - 상태/사용자 인덱스 사용")
+	void hasActiveChallenge() throws SQLException {
+		// given
+		Map<String, Object> params = new HashMap<>();
+		params.put("userId", 3L);
+
+		// when
+		Map<String, Plan> plans = explain("org.bbagisix.challenge.mapper.ChallengeMapper.hasActiveChallenge",
+			params);
+
+		// then
+		assertEquals("idx_user_challenge_status_user", plans.get("user_challenge").key());
+	}
+
+	@Test
+	@DisplayName("최근 챌린지 진척도 - 사용자/시작일 인덱스로 정렬 없이 조회")
+	void getChallengeProgress() throws SQLException {
+		// given
+		Map<String, Object> params = new HashMap<>();
+		params.put("userId", 3L);
+
+		// when
+		Map<String, Plan> plans = explain("org.bbagisix.challenge.mapper.ChallengeMapper.getChallengeProgress",
+			params);
+
+		// then
+		assertEquals("idx_user_challenge_user_start", plans.get("uc").key());
+		assertFalse(plans.get("uc").extra().contains("Using filesort"));
+	}
+
+	private static String fingerprint(String codefTransactionId) throws SQLException {
+		try (PreparedStatement ps = connection.prepareStatement("SELECT SHA2(?, 256)")) {
+			ps.setString(1, codefTransactionId);
+			try (ResultSet rs = ps.executeQuery()) {
+				rs.next();
+				return rs.getString(1);
+			}
+		}
+	}
+
+	private static Map<String, Plan> explain(String statementId, Object parameter) throws SQLException {
+		MappedStatement statement = configuration.getMappedStatement(statementId);
+		BoundSql boundSql = statement.getBoundSql(parameter);
+
+		Map<String, Plan> plans = new HashMap<>();
+		try (PreparedStatement ps = connection.prepareStatement("EXPLAIN " + boundSql.getSql())) {
+			ParameterHandler handler = new DefaultParameterHandler(statement, parameter, boundSql);
+			handler.setParameters(ps);
+			try (ResultSet rs = ps.executeQuery()) {
+				while (rs.next()) {
+					String extra = rs.getString("Extra");
+					plans.putIfAbsent(rs.getString("table"),
+						new Plan(rs.getString("type"), rs.getString("key"), extra == null ? "" : extra));
+				}
+			}
+		}
+		return plans;
+	}
+
+	// V{n}__*.sql 을 버전 순서대로
+	private static List<Path> migrations() throws IOException {
+		try (Stream<Path> files = Files.list(MIGRATION_DIR)) {
+			return files
+				.filter(path -> path.getFileName().toString().matches("V\\d+__.*\\.sql"))
+				.sorted(Comparator.comparingInt(QueryPlanTest::version))
+				.collect(Collectors.toList());
+		}
+	}
+
+	private static int version(Path migration) {
+		String name = migration.getFileName().toString();
+		return Integer.parseInt(name.substring(1, name.indexOf("__")));
+	}
+
+	private static void runScript(String script) throws SQLException {
+		String withoutComments = script.lines()
+			.filter(line -> !line.trim().startsWith("--"))
+			.collect(Collectors.joining("\n"));
+		try (Statement statement = connection.createStatement()) {
+			for (String sql : withoutComments.split(";")) {
+				if (!sql.isBlank()) {
+					statement.execute(sql);
+				}
+			}
+		}
+	}
+
+	// 사용자별 자산 2개, 소비내역 200건(일부 삭제), 챌린지 10건(1건 진행 중)
+	private static void seed() throws SQLException {
+		LocalDateTime now = LocalDateTime.now();
+		connection.setAutoCommit(false);
+		try (Statement statement = connection.createStatement()) {
+			statement.execute("INSERT INTO category (category_id, name, icon) VALUES "
+				+ "(1, '식비', 'food'), (2, '교통', 'bus'), (3, '쇼핑', 'shop'), (4, '카페', 'cafe')");
+			statement.execute("INSERT INTO challenge (challenge_id, category_id, title) VALUES "
+				+ "(1, 1, '배달 끊기'), (2, 2, '택시 끊기'), (3, 4, '커피 끊기')");
+		}
+
+		try (PreparedStatement asset = connection.prepareStatement(
+			"INSERT INTO user_asset (asset_id, user_id, asset_name, bank_name, status) VALUES (?, ?, ?, ?, ?)");
+			 PreparedStatement expense = connection.prepareStatement(
+				 "INSERT INTO expenditure (user_id, category_id, asset_id, amount, description, expenditure_date, "
+					 + "codef_transaction_id, deleted_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)");
+			 PreparedStatement challenge = connection.prepareStatement(
+				 "INSERT INTO user_challenge (user_id, challenge_id, status, period, progress, start_date, end_date) "
+					 + "VALUES (?, ?, ?, 7, 0, ?, ?)")) {
+			for (long userId = 1; userId <= USERS; userId++) {
+				asset.setLong(1, userId);
+				asset.setLong(2, userId);
+				asset.setString(3, "입출금");
+				asset.setString(4, "국민은행");
+				asset.setString(5, "main");
+				asset.addBatch();
+				asset.setLong(1, USERS + userId);
+				asset.setLong(2, userId);
+				asset.setString(3, "저금통");
+				asset.setString(4, "국민은행");
+				asset.setString(5, "sub");
+				asset.addBatch();
+
+				for (int i = 0; i < EXPENSES_PER_USER; i++) {
+					Timestamp spentAt = Timestamp.valueOf(now.minusHours(i * 9L));
+					expense.setLong(1, userId);
+					expense.setLong(2, i % 4 + 1);
+					expense.setLong(3, userId);
+					expense.setLong(4, 1000L + i * 10);
+					expense.setString(5, "거래 " + i);
+					expense.setTimestamp(6, spentAt);
+					expense.setString(7, "codef-" + userId + "-" + i);
+					expense.setTimestamp(8, i % 10 == 0 ? spentAt : null);
+					expense.addBatch();
+				}
+
+				for (int i = 0; i < CHALLENGES_PER_USER; i++) {
+					LocalDateTime start = now.minusDays(7L * (CHALLENGES_PER_USER - i));
+					challenge.setLong(1, userId);
+					challenge.setLong(2, i % 3 + 1);
+					String status = i % 2 == 0 ? "completed" : "failed";
+					challenge.setString(3, i == CHALLENGES_PER_USER - 1 ? "ongoing" : status);
+					challenge.setTimestamp(4, Timestamp.valueOf(start));
+					challenge.setTimestamp(5, Timestamp.valueOf(start.plusDays(7)));
+					challenge.addBatch();
+				}
+			}
+			asset.executeBatch();
+			expense.executeBatch();
+			challenge.executeBatch();
+		}
+
+		try (Statement statement = connection.createStatement()) {
+			statement.execute("INSERT INTO expenditure_daily_rollup (user_id, day, category_id, total, count) "
+				+ "SELECT user_id, DATE(expenditure_date), category_id, SUM(amount), COUNT(*) FROM expenditure "
+				+ "WHERE deleted_at IS NULL GROUP BY user_id, DATE(expenditure_date), category_id");
+			// 절반은 지문 도입 후 행, 나머지는 지문 없는 이전 행
+			statement.execute("UPDATE expenditure SET transaction_fingerprint = SHA2(codef_transaction_id, 256) "
+				+ "WHERE expenditure_id % 2 = 0");
+		}
+		connection.commit();
+		connection.setAutoCommit(true);
+
+		try (Statement statement = connection.createStatement()) {
+			statement.execute("ANALYZE TABLE expenditure, expenditure_daily_rollup, user_challenge, user_asset");
+		}
+	}
+
+	private record Plan(String type, String key, String extra) {
+	}
+}
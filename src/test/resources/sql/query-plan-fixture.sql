@@ -0,0 +1,63 @@
+-- 실행 계획 테스트용 최소 테이블 (보조 인덱스는 sql/migration 에서 적용)
+CREATE TABLE `category` (
+    `category_id` BIGINT NOT NULL AUTO_INCREMENT,
+    `name` VARCHAR(255) NOT NULL,
+    `icon` VARCHAR(255),
+    PRIMARY KEY (`category_id`)
+);
+
+CREATE TABLE `challenge` (
+    `challenge_id` BIGINT NOT NULL AUTO_INCREMENT,
+    `category_id` BIGINT NOT NULL,
+    `title` VARCHAR(255) NOT NULL,
+    PRIMARY KEY (`challenge_id`)
+);
+
+CREATE TABLE `user_challenge` (
+    `user_challenge_id` BIGINT NOT NULL AUTO_INCREMENT,
+    `user_id` BIGINT NOT NULL,
+    `challenge_id` BIGINT NOT NULL,
+    `status` ENUM('ongoing', 'completed', 'failed') NOT NULL,
+    `period` BIGINT NOT NULL,
+    `progress` BIGINT NOT NULL,
+    `start_date` TIMESTAMP NOT NULL,
+    `end_date` TIMESTAMP NOT NULL,
+    `saving` BIGINT NOT NULL DEFAULT 0,
+    `is_active` BOOLEAN NOT NULL DEFAULT TRUE,
+    PRIMARY KEY (`user_challenge_id`)
+);
+
+CREATE TABLE `chat_message` (
+    `message_id` BIGINT NOT NULL AUTO_INCREMENT,
+    `user_id` BIGINT NOT NULL,
+    `challenge_id` BIGINT NOT NULL,
+    `message` VARCHAR(255) NOT NULL,
+    `sent_at` TIMESTAMP NOT NULL,
+    `message_type` VARCHAR(20) DEFAULT 'MESSAGE' NOT NULL,
+    PRIMARY KEY (`message_id`)
+);
+
+CREATE TABLE `user_asset` (
+    `asset_id` BIGINT NOT NULL AUTO_INCREMENT,
+    `user_id` BIGINT NOT NULL,
+    `asset_name` VARCHAR(255) NOT NULL,
+    `bank_name` VARCHAR(255) NOT NULL,
+    `status` VARCHAR(20) NOT NULL,
+    PRIMARY KEY (`asset_id`)
+);
+
+CREATE TABLE `expenditure` (
+    `expenditure_id` BIGINT NOT NULL AUTO_INCREMENT,
+    `user_id` BIGINT NOT NULL,
+    `category_id` BIGINT NOT NULL,
+    `asset_id` BIGINT NOT NULL,
+    `amount` BIGINT NOT NULL,
+    `description` VARCHAR(255),
+    `expenditure_date` TIMESTAMP NOT NULL,
+    `created_at` TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    `updated_at` TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    `user_modified` BOOLEAN NOT NULL DEFAULT FALSE,
+    `codef_transaction_id` VARCHAR(255),
+    `deleted_at` TIMESTAMP NULL,
+    PRIMARY KEY (`expenditure_id`)
+);